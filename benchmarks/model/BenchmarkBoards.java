@@ -0,0 +1,69 @@
+package model;
+
+import model.player.AIPlayer;
+import model.player.Player;
+import model.player.PlayerFactory;
+import util.Helper;
+import java.awt.Color;
+
+/**
+ * Plateaux préparés pour les benchmarks : serpents repliés en serpentin
+ * pour obtenir une longueur et une densité d'occupation données
+ */
+public final class BenchmarkBoards {
+    // Plateau par défaut : 40 x 40 cases, lignes jouables 2 à 38
+    public static final int BOARD_CELLS = Helper.DEFAULT_BOARD_CELLS;
+    private static final int FIRST_ROW = 2;
+    private static final int LAST_ROW = BOARD_CELLS - 2;
+
+    private BenchmarkBoards() {
+    }
+
+    // Serpent de la longueur demandée, parcourant les colonnes [firstCol, lastCol] ligne par ligne
+    public static Snake serpentine(int length, int firstCol, int lastCol, Color color) {
+        Snake snake = new Snake(firstCol + 2, FIRST_ROW, color, Direction.RIGHT);
+        snake.attachIndex(new SpatialIndex(BOARD_CELLS, BOARD_CELLS), 0);
+
+        int col = firstCol + 2;
+        int row = FIRST_ROW;
+        Direction horizontal = Direction.RIGHT;
+        while (snake.getLength() < length) {
+            Direction step = horizontal;
+            if ((horizontal == Direction.RIGHT && col == lastCol)
+                    || (horizontal == Direction.LEFT && col == firstCol)) {
+                step = Direction.DOWN;
+                horizontal = horizontal == Direction.RIGHT ? Direction.LEFT : Direction.RIGHT;
+            }
+            if (step == Direction.DOWN && row == LAST_ROW) {
+                throw new IllegalArgumentException("Serpent trop long pour la zone: " + length);
+            }
+            snake.setDirection(step);
+            snake.grow();
+            snake.move();
+            col += step.getDx();
+            row += step.getDy();
+        }
+        return snake;
+    }
+
+    // Partie IA contre IA avec deux serpents de même longueur, chacun dans sa moitié du plateau
+    public static GameModel model(int length, long seed) {
+        int half = BOARD_CELLS / 2;
+        Player player1 = seeded(PlayerFactory.createAIPlayer(3), seed + 1);
+        Player player2 = seeded(PlayerFactory.createAIPlayer(2), seed + 2);
+
+        GameModel model = new GameModel(seed);
+        model.initGame(player1, player2, BOARD_CELLS, BOARD_CELLS);
+        model.setGameState(serpentine(length, 0, half - 1, Color.GREEN),
+                serpentine(length, half, 2 * half - 1, Color.BLUE),
+                player1, player2, Cell.NONE, 0, 0);
+        model.generateNewApple(BOARD_CELLS, BOARD_CELLS);
+        model.publishFrame();
+        return model;
+    }
+
+    private static Player seeded(Player player, long seed) {
+        ((AIPlayer) player).setSeed(seed);
+        return player;
+    }
+}
@@ -0,0 +1,58 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks du modèle : apparition d'une pomme et tick complet
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameModelBenchmark {
+    private static final int TICKS = 50;
+
+    @State(Scope.Thread)
+    public static class BoardState {
+        @Param({ "16", "128", "512" })
+        public int length;
+
+        GameModel model;
+
+        @Setup
+        public void setup() {
+            model = BenchmarkBoards.model(length, 42);
+        }
+    }
+
+    // Le plateau est reconstruit avant chaque lot de ticks pour garder la densité voulue
+    @State(Scope.Thread)
+    public static class TickState {
+        @Param({ "16", "128", "512" })
+        public int length;
+
+        GameModel model;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            model = BenchmarkBoards.model(length, 42);
+        }
+    }
+
+    @Benchmark
+    public GameModel generateNewApple(BoardState state) {
+        state.model.generateNewApple(BenchmarkBoards.BOARD_CELLS, BenchmarkBoards.BOARD_CELLS);
+        return state.model;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public GameModel update(TickState state) {
+        for (int i = 0; i < TICKS; i++) {
+            state.model.update(BenchmarkBoards.BOARD_CELLS, BenchmarkBoards.BOARD_CELLS);
+        }
+        return state.model;
+    }
+}
@@ -0,0 +1,59 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de sauvegarde : format binaire NIO comparé à l'ancienne sérialisation Java
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveStateBenchmark {
+    @Param({ "16", "128", "512" })
+    public int length;
+
+    private SaveState state;
+    private File binaryFile;
+    private File serializedFile;
+
+    @Setup
+    public void setup() throws IOException {
+        state = new SaveState(BenchmarkBoards.model(length, 42));
+        binaryFile = File.createTempFile("snake-binaire", ".dat");
+        serializedFile = File.createTempFile("snake-serialise", ".dat");
+        state.save(binaryFile.getPath());
+        state.saveSerialized(serializedFile.getPath());
+    }
+
+    @TearDown
+    public void tearDown() {
+        binaryFile.delete();
+        serializedFile.delete();
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        state.save(binaryFile.getPath());
+    }
+
+    @Benchmark
+    public void saveSerialized() throws IOException {
+        state.saveSerialized(serializedFile.getPath());
+    }
+
+    @Benchmark
+    public SaveState loadBinary() throws Exception {
+        return SaveState.load(binaryFile.getPath());
+    }
+
+    @Benchmark
+    public SaveState loadSerialized() throws Exception {
+        return SaveState.load(serializedFile.getPath());
+    }
+}
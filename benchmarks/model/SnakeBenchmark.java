@@ -0,0 +1,42 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks des opérations élémentaires du serpent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnakeBenchmark {
+    // Tour sur un carré de 2 x 2 : le serpent reste sur place, sans demi-tour
+    private static final Direction[] LOOP = { Direction.RIGHT, Direction.DOWN, Direction.LEFT, Direction.UP };
+
+    @Param({ "16", "128", "512" })
+    public int length;
+
+    private Snake snake;
+    private int turn;
+
+    @Setup
+    public void setup() {
+        snake = BenchmarkBoards.serpentine(length, 0, 19, Color.GREEN);
+    }
+
+    @Benchmark
+    public Snake move() {
+        snake.setDirection(LOOP[turn++ & 3]);
+        snake.move();
+        return snake;
+    }
+
+    @Benchmark
+    public boolean checkSelfCollision() {
+        return snake.checkSelfCollision();
+    }
+}
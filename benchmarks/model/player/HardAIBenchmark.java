@@ -0,0 +1,45 @@
+package model.player;
+
+import model.BenchmarkBoards;
+import model.Cell;
+import model.Direction;
+import model.Snake;
+import org.openjdk.jmh.annotations.*;
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la recherche de chemin de l'IA difficile
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HardAIBenchmark {
+    @Param({ "16", "128", "512" })
+    public int length;
+
+    private Snake snake;
+    private HardAI ai;
+    private int[] apples;
+    private int turn;
+
+    @Setup
+    public void setup() {
+        snake = BenchmarkBoards.serpentine(length, 0, 19, Color.GREEN);
+        ai = new HardAI();
+        ai.setSeed(42);
+        // Sans coupure ni mode économique : on mesure la recherche complète
+        ai.setDecisionBudget(AIPlayer.UNLIMITED_BUDGET);
+        // La pomme change à chaque appel : chaque décision relance une recherche complète
+        apples = new int[] { Cell.pack(39, 37), Cell.pack(21, 2) };
+    }
+
+    @Benchmark
+    public Direction pathSearch() {
+        ai.updateDirection(snake, apples[turn++ & 1], BenchmarkBoards.BOARD_CELLS, BenchmarkBoards.BOARD_CELLS);
+        return snake.getDirection();
+    }
+}
@@ -0,0 +1,48 @@
+package view;
+
+import model.BenchmarkBoards;
+import model.GameModel;
+import org.openjdk.jmh.annotations.*;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark du rendu d'une image complète du jeu, hors écran
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameViewBenchmark {
+    private static final int VIEW_SIZE = 800; // Pixels : 40 cases de 20 pixels
+    @Param({ "16", "128", "512" })
+    public int length;
+
+    private GameView view;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setup() {
+        GameModel model = BenchmarkBoards.model(length, 42);
+        view = new GameView(model);
+        view.setSize(VIEW_SIZE, VIEW_SIZE);
+        image = new BufferedImage(VIEW_SIZE, VIEW_SIZE,
+                BufferedImage.TYPE_INT_RGB);
+        graphics = image.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage draw() {
+        view.paintComponent(graphics);
+        return image;
+    }
+}
@@ -3,25 +3,42 @@ package controller;
 import model.*;
 import model.player.*;
 import view.*;
+import observer.EventDispatcher;
 import observer.GameObserver;
+import replay.ReplayRecorder;
+import util.Helper;
 import javax.swing.*;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.io.File;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Contrôleur principal - gère la logique entre le modèle et les vues
  */
 public class GameController {
+    // Rapports de fin de partie (gigue, planification, temps de décision) au niveau FINE
+    private static final Logger LOGGER = Logger.getLogger(GameController.class.getName());
     private static final int GAME_DELAY = 100;
+    private static final int EVENT_BUFFER_SIZE = 64; // Lots (ticks) en attente de diffusion
+    // Fichier où enregistrer les nouvelles parties (-Dsnake.replay=partie.rpl), absent par défaut
+    private static final String REPLAY_PROPERTY = "snake.replay";
+    // Taille du plateau en cases (-Dsnake.board=200 ou 300x200), 40 x 40 par défaut
+    private static final String BOARD_PROPERTY = "snake.board";
 
     private MainWindow mainWindow;
     private MenuView menuView;
     private DifficultyView difficultyView;
     private GameView gameView;
     private GameModel gameModel;
-    private Timer gameTimer; // Pour la logique (100ms)
-    private Timer renderTimer; // Pour le rendu (16ms ≈ 60 FPS)
+    private GameLoop gameLoop; // Pour la logique (100ms, thread dédié)
+    private ReplayRecorder replayRecorder;
+
+    // Taille logique du plateau, indépendante de la fenêtre (la vue zoome et défile)
+    private volatile int boardCols;
+    private volatile int boardRows;
 
     public GameController() {
         // Initialiser la fenêtre principale
@@ -76,8 +93,13 @@ public class GameController {
     }
 
     private void startGame(Player player1, Player player2) {
-        // Créer un nouveau modèle et vue de jeu
-        gameModel = new GameModel();
+        if (!readBoardSize()) {
+            return;
+        }
+
+        // Créer un nouveau modèle et vue de jeu (graine connue pour le rejeu)
+        long seed = System.nanoTime();
+        gameModel = new GameModel(seed);
         gameView = new GameView(gameModel);
 
         // Ajouter la vue de jeu
@@ -87,14 +109,56 @@ public class GameController {
         setupGameControls();
 
         // Initialiser le jeu
-        gameModel.initGame(player1, player2, gameView.getWidth(), gameView.getHeight());
+        gameModel.initGame(player1, player2, boardCols, boardRows);
+        startRecording(seed, player1, player2);
+
+        startLoops();
+
+        // Afficher la vue de jeu
+        mainWindow.showView("game");
+        gameView.requestFocusInWindow();
+    }
+
+    // Lit la taille de plateau demandée ; false (et message) si elle est invalide
+    private boolean readBoardSize() {
+        String value = System.getProperty(BOARD_PROPERTY, String.valueOf(Helper.DEFAULT_BOARD_CELLS));
+        try {
+            String[] parts = value.toLowerCase().split("x");
+            int cols = Integer.parseInt(parts[0].trim());
+            int rows = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : cols;
+            boardCols = Helper.checkBoardCells(cols);
+            boardRows = Helper.checkBoardCells(rows);
+            return true;
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(mainWindow,
+                    "Taille de plateau invalide (" + value + "): " + e.getMessage(),
+                    "Erreur",
+                    JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+    }
+
+    private void startLoops() {
+        // Boucle de LOGIQUE du jeu (10 ticks/s) sur son propre thread,
+        // indépendante des retards de l'EDT (peinture, dialogues)
+        GameModel model = gameModel;
+        gameLoop = new GameLoop(GAME_DELAY, () -> {
+            synchronized (model) {
+                model.update(boardCols, boardRows);
+            }
+        });
+        GameLoop loop = gameLoop;
 
-        // Observer pour détecter la fin du jeu
+        // Observer pour la pause et la fin du jeu (notifié depuis la boucle de jeu)
         gameModel.addObserver(new GameObserver() {
             @Override
             public void onGameStateChange(GameState state) {
                 if (state == GameState.GAME_OVER) {
-                    stopGame();
+                    SwingUtilities.invokeLater(() -> stopGame());
+                } else if (state == GameState.PAUSED) {
+                    loop.suspend();
+                } else if (state == GameState.PLAYING) {
+                    loop.resume();
                 }
             }
 
@@ -115,27 +179,33 @@ public class GameController {
             }
         });
 
-        // Timer pour la LOGIQUE du jeu (10 FPS)
-        gameTimer = new Timer(GAME_DELAY, e -> {
-            if (gameModel != null) {
-                gameModel.update(gameView.getWidth(), gameView.getHeight());
-            }
-        });
-        gameTimer.setCoalesce(false);
-        gameTimer.start();
+        // Les observateurs (vue, contrôleur) sont servis sur un thread à part :
+        // un observateur lent ne ralentit plus le tick. Tampon plein : le tick attend.
+        gameModel.enableAsyncDispatch(EVENT_BUFFER_SIZE, EventDispatcher.OverflowPolicy.BLOCK);
 
-        // Timer pour le RENDU (60 FPS)
-        renderTimer = new Timer(16, e -> {
-            if (gameView != null) {
-                gameView.repaint();
-            }
-        });
-        renderTimer.setCoalesce(false);
-        renderTimer.start();
+        // L'IA réfléchit pendant l'attente entre deux ticks plutôt qu'au début du tick
+        gameModel.enableBackgroundPlanning();
 
-        // Afficher la vue de jeu
-        mainWindow.showView("game");
-        gameView.requestFocusInWindow();
+        if (gameModel.isPaused()) {
+            loop.suspend();
+        }
+        loop.start();
+
+        // Pas de timer de rendu : la vue se repeint à chaque tick publié
+        // (onSnakeMove) ou changement d'état, et reste inactive sinon
+    }
+
+    private void startRecording(long seed, Player player1, Player player2) {
+        String filename = System.getProperty(REPLAY_PROPERTY);
+        if (filename == null) {
+            return;
+        }
+        try {
+            replayRecorder = new ReplayRecorder(filename, seed, boardCols, boardRows, player1, player2);
+            gameModel.setInputListener(replayRecorder);
+        } catch (IOException e) {
+            LOGGER.warning("Enregistrement du rejeu impossible: " + e.getMessage());
+        }
     }
 
     private void setupGameControls() {
@@ -192,9 +262,25 @@ public class GameController {
                 }
                 break;
 
+            // Zoom de la vue (grands plateaux)
+            case KeyEvent.VK_ADD:
+            case KeyEvent.VK_EQUALS:
+                gameView.zoomIn();
+                break;
+            case KeyEvent.VK_SUBTRACT:
+            case KeyEvent.VK_MINUS:
+                gameView.zoomOut();
+                break;
+
             // Commandes générales
             case KeyEvent.VK_P:
-                gameModel.togglePause();
+                // Sous le verrou du modèle : l'image publiée ne peut pas croiser un tick.
+                // L'événement part après, l'EDT ne doit pas attendre le tampon verrou tenu
+                synchronized (gameModel) {
+                    gameModel.holdEvents();
+                    gameModel.togglePause();
+                }
+                gameModel.releaseEvents();
                 break;
 
             case KeyEvent.VK_ESCAPE:
@@ -233,8 +319,10 @@ public class GameController {
                     filename += ".dat";
                 }
 
-                SaveState saveState = new SaveState(gameModel);
-                saveState.save(filename);
+                synchronized (gameModel) {
+                    SaveState saveState = new SaveState(gameModel);
+                    saveState.save(filename);
+                }
 
                 JOptionPane.showMessageDialog(mainWindow,
                         "Partie sauvegardée avec succès!",
@@ -272,54 +360,14 @@ public class GameController {
                 gameModel = new GameModel();
                 gameView = new GameView(gameModel);
                 saveState.restoreToModel(gameModel);
+                boardCols = saveState.getBoardCols();
+                boardRows = saveState.getBoardRows();
 
                 // Ajouter la vue et configurer
                 mainWindow.addView(gameView, "game");
                 setupGameControls();
 
-                // Observer pour la fin du jeu
-                gameModel.addObserver(new GameObserver() {
-                    @Override
-                    public void onGameStateChange(GameState state) {
-                        if (state == GameState.GAME_OVER) {
-                            stopGame();
-                        }
-                    }
-
-                    @Override
-                    public void onScoreUpdate(int player1Score, int player2Score) {
-                    }
-
-                    @Override
-                    public void onSnakeMove() {
-                    }
-
-                    @Override
-                    public void onAppleEaten(String playerName) {
-                    }
-
-                    @Override
-                    public void onCollision(String playerName) {
-                    }
-                });
-
-                // Timer pour la LOGIQUE du jeu (10 FPS)
-                gameTimer = new Timer(GAME_DELAY, e -> {
-                    if (gameModel != null) {
-                        gameModel.update(gameView.getWidth(), gameView.getHeight());
-                    }
-                });
-                gameTimer.setCoalesce(false);
-                gameTimer.start();
-
-                // Timer pour le RENDU (60 FPS)
-                renderTimer = new Timer(16, e -> {
-                    if (gameView != null) {
-                        gameView.repaint();
-                    }
-                });
-                renderTimer.setCoalesce(false);
-                renderTimer.start();
+                startLoops();
 
                 // Afficher le jeu
                 mainWindow.showView("game");
@@ -340,11 +388,40 @@ public class GameController {
     }
 
     private void stopGame() {
-        if (gameTimer != null) {
-            gameTimer.stop();
+        if (gameLoop != null && gameLoop.isRunning()) {
+            gameLoop.stop();
+            LOGGER.fine(() -> "Boucle de jeu: " + gameLoop.getJitterReport());
         }
-        if (renderTimer != null) {
-            renderTimer.stop();
+        if (gameModel != null) {
+            // Sous le verrou du modèle : un tick encore en cours termine son lot avant l'arrêt
+            synchronized (gameModel) {
+                gameModel.disableAsyncDispatch();
+                AIPlanner planner = gameModel.getPlanner();
+                if (planner != null) {
+                    LOGGER.fine(() -> "Planification IA: " + planner.getReport());
+                }
+                // Après l'arrêt de la planification : plus aucune décision en cours
+                gameModel.disableBackgroundPlanning();
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    String decisions = gameModel.getDecisionReport();
+                    if (!decisions.isEmpty()) {
+                        LOGGER.fine("Temps de décision IA:" + System.lineSeparator() + decisions);
+                    }
+                }
+            }
+        }
+        if (replayRecorder != null) {
+            // Sous le verrou du modèle : aucun tick ne peut s'intercaler avant l'état final
+            try {
+                synchronized (gameModel) {
+                    gameModel.setInputListener(null);
+                    replayRecorder.finish(gameModel);
+                }
+                LOGGER.info("Partie enregistrée: " + replayRecorder.getTickCount() + " ticks");
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Erreur lors de l'enregistrement du rejeu", e);
+            }
+            replayRecorder = null;
         }
     }
 
@@ -0,0 +1,142 @@
+package controller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boucle de jeu à pas fixe sur un thread dédié.
+ * Les ticks en retard sont rattrapés (dans une limite) et le retard de
+ * chaque tick par rapport à son échéance est mesuré (gigue).
+ * Une boucle suspendue (jeu en pause) dort sans aucun réveil.
+ */
+public class GameLoop implements Runnable {
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final long SPIN_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long tickNanos;
+    private final Runnable tick;
+    private volatile boolean running;
+    private volatile boolean suspended;
+    private Thread thread;
+
+    // Statistiques de gigue (écrites par le thread de la boucle uniquement)
+    private volatile long tickCount;
+    private volatile long skippedTicks;
+    private volatile long totalLatenessNanos;
+    private volatile long maxLatenessNanos;
+
+    public GameLoop(long tickMillis, Runnable tick) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.tick = tick;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "boucle-de-jeu");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Peut être appelée depuis n'importe quel thread, y compris la boucle elle-même
+    public synchronized void stop() {
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    // Suspend les ticks jusqu'à resume() : le thread reste bloqué sans consommer de CPU
+    public void suspend() {
+        suspended = true;
+    }
+
+    public synchronized void resume() {
+        suspended = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime() + tickNanos;
+        while (running) {
+            if (suspended) {
+                LockSupport.park(this);
+                // Reprise : le temps passé en pause n'est ni rattrapé ni compté comme retard
+                next = System.nanoTime() + tickNanos;
+                continue;
+            }
+
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                // Sommeil grossier puis attente active pour la dernière milliseconde
+                if (wait > SPIN_THRESHOLD) {
+                    LockSupport.parkNanos(wait - SPIN_THRESHOLD);
+                } else {
+                    Thread.onSpinWait();
+                }
+                continue;
+            }
+
+            // Rattraper les ticks en retard, dans une limite
+            int ticks = 0;
+            long now;
+            while (running && (now = System.nanoTime()) >= next && ticks < MAX_CATCH_UP_TICKS) {
+                recordLateness(now - next);
+                tick.run();
+                next += tickNanos;
+                ticks++;
+            }
+
+            // Trop de retard (pause GC, débogueur) : on abandonne les ticks restants
+            long behind = System.nanoTime() - next;
+            if (behind >= tickNanos) {
+                long dropped = behind / tickNanos;
+                skippedTicks += dropped;
+                next += dropped * tickNanos;
+            }
+        }
+    }
+
+    private void recordLateness(long lateness) {
+        tickCount++;
+        totalLatenessNanos += lateness;
+        if (lateness > maxLatenessNanos) {
+            maxLatenessNanos = lateness;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    public double getMeanJitterMillis() {
+        long count = tickCount;
+        return count == 0 ? 0 : totalLatenessNanos / (double) count / 1_000_000;
+    }
+
+    public double getMaxJitterMillis() {
+        return maxLatenessNanos / 1_000_000.0;
+    }
+
+    public String getJitterReport() {
+        return String.format("%d ticks, gigue moyenne %.3f ms, max %.3f ms, %d ticks abandonnés",
+                getTickCount(), getMeanJitterMillis(), getMaxJitterMillis(), getSkippedTicks());
+    }
+}
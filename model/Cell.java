@@ -0,0 +1,29 @@
+package model;
+
+/**
+ * Coordonnées de case (colonne, ligne) compactées dans un seul int
+ */
+public final class Cell {
+
+    // Aucune case (pas de pomme) : pack(-1, -1), toujours hors du plateau
+    public static final int NONE = -1;
+
+    private Cell() {
+    }
+
+    public static int pack(int col, int row) {
+        return (col << 16) | (row & 0xFFFF);
+    }
+
+    public static int col(int cell) {
+        return cell >> 16;
+    }
+
+    public static int row(int cell) {
+        return (short) cell;
+    }
+
+    public static int move(int cell, Direction dir) {
+        return pack(col(cell) + dir.getDx(), row(cell) + dir.getDy());
+    }
+}
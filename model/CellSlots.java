@@ -0,0 +1,188 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Correspondance case -> emplacement pour les structures indexées par case.
+ * Plateau raisonnable : tableau dense (ligne * colonnes + colonne).
+ * Très grand plateau : table de hachage des seules cases présentes, la
+ * mémoire suit le nombre de segments et non la surface du plateau.
+ */
+final class CellSlots {
+    static final int DENSE_LIMIT = 1 << 20; // Cases ; au-delà, indexation creuse
+
+    private static final int EMPTY = -1; // Une case valide n'est jamais négative
+    private static final int INITIAL_TABLE_SIZE = 128; // Puissance de 2
+
+    private final int cols;
+    private final int rows;
+    private final boolean dense;
+
+    // Mode creux : sondage linéaire case -> emplacement, emplacements recyclés
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int[] freeSlots;
+    private int freeCount;
+    private int nextSlot;
+
+    CellSlots(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        this.dense = (long) cols * rows <= DENSE_LIMIT;
+        if (!dense) {
+            allocate(INITIAL_TABLE_SIZE);
+        }
+    }
+
+    boolean matches(int cols, int rows) {
+        return this.cols == cols && this.rows == rows;
+    }
+
+    // Nombre d'emplacements utilisables : taille des tableaux associés
+    int capacity() {
+        return dense ? cols * rows : keys.length / 2;
+    }
+
+    // Cases présentes (mode creux) ; toutes les cases du plateau en mode dense
+    int size() {
+        return dense ? cols * rows : size;
+    }
+
+    // Emplacement de la case, -1 hors du plateau ou absente (mode creux)
+    int find(int cell) {
+        int col = Cell.col(cell);
+        int row = Cell.row(cell);
+        if (col < 0 || col >= cols || row < 0 || row >= rows) {
+            return -1;
+        }
+        if (dense) {
+            return row * cols + col;
+        }
+        return lookup(cell);
+    }
+
+    private int lookup(int cell) {
+        for (int i = hash(cell); ; i = (i + 1) & mask) {
+            int key = keys[i];
+            if (key == cell) {
+                return values[i];
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    // Emplacement de la case, créé si besoin ; -1 hors du plateau
+    int add(int cell) {
+        int col = Cell.col(cell);
+        int row = Cell.row(cell);
+        if (col < 0 || col >= cols || row < 0 || row >= rows) {
+            return -1;
+        }
+        if (dense) {
+            return row * cols + col;
+        }
+        return insert(cell);
+    }
+
+    private int insert(int cell) {
+        int i = hash(cell);
+        for (; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == cell) {
+                return values[i];
+            }
+        }
+        if (size + 1 > keys.length / 2) {
+            rehash(keys.length * 2);
+            return insert(cell);
+        }
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot++;
+        keys[i] = cell;
+        values[i] = slot;
+        size++;
+        return slot;
+    }
+
+    // Oublie la case (mode creux) ; son emplacement sera réutilisé
+    void remove(int cell) {
+        if (dense || !contains(cell)) {
+            return;
+        }
+        int i = hash(cell);
+        while (keys[i] != cell) {
+            if (keys[i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = values[i];
+        size--;
+
+        // Suppression par recul : les entrées suivantes du groupe reprennent la place libérée
+        int gap = i;
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(keys[j]);
+            boolean stays = gap <= j ? gap < home && home <= j : gap < home || home <= j;
+            if (!stays) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = EMPTY;
+    }
+
+    void clear() {
+        if (!dense) {
+            allocate(INITIAL_TABLE_SIZE);
+        }
+    }
+
+    boolean contains(int cell) {
+        int col = Cell.col(cell);
+        int row = Cell.row(cell);
+        return col >= 0 && col < cols && row >= 0 && row < rows;
+    }
+
+    private int hash(int cell) {
+        int h = cell * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        Arrays.fill(keys, EMPTY);
+        values = new int[tableSize];
+        mask = tableSize - 1;
+        size = 0;
+        freeSlots = new int[16];
+        freeCount = 0;
+        nextSlot = 0;
+    }
+
+    // Les emplacements existants sont conservés : les tableaux associés restent valides
+    private void rehash(int tableSize) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[tableSize];
+        Arrays.fill(keys, EMPTY);
+        values = new int[tableSize];
+        mask = tableSize - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int j = hash(oldKeys[i]);
+                while (keys[j] != EMPTY) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
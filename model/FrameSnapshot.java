@@ -0,0 +1,114 @@
+package model;
+
+import java.awt.Color;
+
+/**
+ * Image immuable de l'état du jeu, publiée une fois par tick.
+ * Le rendu ne lit que cet objet : il peut tourner sur un autre thread
+ * que le modèle sans verrou ni copie à chaque image.
+ */
+public final class FrameSnapshot {
+    private final long tick;
+    private final int boardCols;
+    private final int boardRows;
+    private final SnakeFrame[] snakes;
+    private final String[] playerNames;
+    private final int[] scores;
+    private final boolean hasApple;
+    private final int appleCell;
+    private final boolean running;
+    private final boolean paused;
+
+    FrameSnapshot(long tick, int boardCols, int boardRows, SnakeFrame[] snakes, String[] playerNames,
+            int[] scores, boolean hasApple, int appleCell, boolean running, boolean paused) {
+        this.tick = tick;
+        this.boardCols = boardCols;
+        this.boardRows = boardRows;
+        this.snakes = snakes;
+        this.playerNames = playerNames;
+        this.scores = scores;
+        this.hasApple = hasApple;
+        this.appleCell = appleCell;
+        this.running = running;
+        this.paused = paused;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    // Dimensions logiques du plateau, en cases
+    public int getBoardCols() {
+        return boardCols;
+    }
+
+    public int getBoardRows() {
+        return boardRows;
+    }
+
+    public int getSnakeCount() {
+        return snakes.length;
+    }
+
+    public SnakeFrame getSnake(int index) {
+        return snakes[index];
+    }
+
+    public String getPlayerName(int index) {
+        return playerNames[index];
+    }
+
+    public int getScore(int index) {
+        return scores[index];
+    }
+
+    public boolean hasApple() {
+        return hasApple;
+    }
+
+    public int getAppleCell() {
+        return appleCell;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Copie figée du corps d'un serpent (cases compactées, tête en premier)
+     */
+    public static final class SnakeFrame {
+        private final int[] cells;
+        private final Direction direction;
+        private final Color color;
+
+        SnakeFrame(Snake snake) {
+            this.cells = new int[snake.getLength()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = snake.getCell(i);
+            }
+            this.direction = snake.getDirection();
+            this.color = snake.getColor();
+        }
+
+        public int getLength() {
+            return cells.length;
+        }
+
+        public int getCell(int index) {
+            return cells[index];
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+
+        public Color getColor() {
+            return color;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package model;
+
+import java.util.Random;
+
+/**
+ * Ensemble des cases libres de la zone de jeu, partagé par les serpents.
+ * Tableau dense + index de position : retrait par échange avec le dernier
+ * élément, tirage uniforme d'une case libre en temps constant.
+ * Sur un très grand plateau, seules les cases occupées sont suivies et la
+ * case libre est tirée par rejet (le plateau y est presque vide).
+ */
+public class FreeCellSet {
+    private static final int MAX_SAMPLES = 64; // Tirages par rejet avant abandon
+
+    private final int cols;
+    private final int firstRow;
+    private final int rows;
+    private final CellSlots occupied; // Mode creux uniquement, null sinon
+    private short[] counts; // Nombre de segments par case (tous serpents)
+    private final int[] free;
+    private final int[] position;
+    private int size;
+
+    public FreeCellSet(int cols, int firstRow, int rows) {
+        this.cols = cols;
+        this.firstRow = firstRow;
+        this.rows = rows;
+        int cellCount = cols * rows;
+        if ((long) cols * rows > CellSlots.DENSE_LIMIT) {
+            this.occupied = new CellSlots(cols, rows);
+            this.counts = new short[occupied.capacity()];
+            this.free = null;
+            this.position = null;
+            this.size = cellCount;
+            return;
+        }
+        this.occupied = null;
+        this.counts = new short[cellCount];
+        this.free = new int[cellCount];
+        this.position = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            free[i] = i;
+            position[i] = i;
+        }
+        this.size = cellCount;
+    }
+
+    public boolean matches(int cols, int firstRow, int rows) {
+        return this.cols == cols && this.firstRow == firstRow && this.rows == rows;
+    }
+
+    // Un segment entre dans la case
+    public void occupy(int cell) {
+        if (occupied != null) {
+            int slot = occupied.add(toZone(cell));
+            if (slot < 0) {
+                return;
+            }
+            if (slot >= counts.length) {
+                counts = java.util.Arrays.copyOf(counts, occupied.capacity());
+            }
+            if (counts[slot]++ == 0) {
+                size--;
+            }
+            return;
+        }
+        int index = indexOf(cell);
+        if (index >= 0 && counts[index]++ == 0) {
+            removeFree(index);
+        }
+    }
+
+    // Un segment quitte la case
+    public void release(int cell) {
+        if (occupied != null) {
+            int zoneCell = toZone(cell);
+            int slot = occupied.find(zoneCell);
+            if (slot >= 0 && counts[slot] > 0 && --counts[slot] == 0) {
+                occupied.remove(zoneCell);
+                size++;
+            }
+            return;
+        }
+        int index = indexOf(cell);
+        if (index >= 0 && counts[index] > 0 && --counts[index] == 0) {
+            addFree(index);
+        }
+    }
+
+    public boolean isFree(int cell) {
+        if (occupied != null) {
+            int zoneCell = toZone(cell);
+            return occupied.contains(zoneCell) && occupied.find(zoneCell) < 0;
+        }
+        int index = indexOf(cell);
+        return index >= 0 && counts[index] == 0;
+    }
+
+    // Case libre tirée uniformément, -1 si la zone est pleine
+    public int randomFreeCell(Random random) {
+        if (size == 0) {
+            return -1;
+        }
+        if (occupied != null) {
+            for (int attempt = 0; attempt < MAX_SAMPLES; attempt++) {
+                int index = random.nextInt(cols * rows);
+                int cell = Cell.pack(index % cols, index / cols + firstRow);
+                if (isFree(cell)) {
+                    return cell;
+                }
+            }
+            return -1;
+        }
+        int index = free[random.nextInt(size)];
+        return Cell.pack(index % cols, index / cols + firstRow);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void removeFree(int index) {
+        int slot = position[index];
+        int last = free[--size];
+        free[slot] = last;
+        position[last] = slot;
+        free[size] = index;
+        position[index] = size;
+    }
+
+    private void addFree(int index) {
+        int slot = position[index];
+        int first = free[size];
+        free[slot] = first;
+        position[first] = slot;
+        free[size] = index;
+        position[index] = size;
+        size++;
+    }
+
+    // Case relative à la zone de jeu (première ligne de la zone = ligne 0)
+    private int toZone(int cell) {
+        return Cell.pack(Cell.col(cell), Cell.row(cell) - firstRow);
+    }
+
+    // Les cases hors de la zone de jeu ne sont pas suivies
+    private int indexOf(int cell) {
+        int col = Cell.col(cell);
+        int row = Cell.row(cell) - firstRow;
+        if (col < 0 || col >= cols || row < 0 || row >= rows) {
+            return -1;
+        }
+        return row * cols + col;
+    }
+}
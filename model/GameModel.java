@@ -1,238 +1,552 @@
 package model;
 
 import observer.Observable;
-import util.Helper;
 import observer.GameObserver;
 import model.player.Player;
 import model.player.HumanPlayer;
+import model.player.AIPlanner;
+import model.player.AIPlayer;
+import model.player.DecisionStats;
 import java.awt.Color;
-import java.awt.Point;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
  * Modèle principal du jeu - gère la logique
+ *
+ * Le plateau accueille un nombre quelconque de serpents (duel ou arène) ;
+ * les collisions entre serpents passent par un index spatial partagé.
  */
 public class GameModel extends Observable implements Serializable {
     private static final long serialVersionUID = 1L;
-
-    private Snake snake1;
-    private Snake snake2;
-    private Player player1;
-    private Player player2;
-    private Point apple;
-    private int player1Score;
-    private int player2Score;
-    private boolean running;
-    private boolean paused;
+    private static final int COLLISION_PENALTY = 5;
+    private static final int RESPAWN_ATTEMPTS = 32;
+    private static final int ALIVE = -2; // Pas de collision pendant ce tick
+
+    private List<Snake> snakes = new ArrayList<>();
+    private List<Player> players = new ArrayList<>();
+    private int[] scores = new int[0];
+    private boolean arena; // Arène (ou partie solo) plutôt que duel : faux dans les anciennes sauvegardes
+    private int appleCell = Cell.NONE;
+    private volatile boolean running;
+    private volatile boolean paused;
     private Random random;
+    private transient FreeCellSet freeCells; // Cases où une pomme peut apparaître
+    private transient SpatialIndex spatialIndex; // Occupation de tous les serpents
+    private transient int[] killers; // Résultat de la détection des collisions, réutilisé
+    private long tickCount;
+    private int boardCols; // Dernières dimensions reçues, en cases
+    private int boardRows;
+    private boolean framePublishing = true;
+    private transient volatile FrameSnapshot frame; // Dernière image publiée pour le rendu
+    private transient TickInputListener inputListener; // Enregistrement des entrées (rejeu)
+    private transient volatile AIPlanner planner; // Décisions des IA préparées entre deux ticks
+    private transient Direction[] plannedDirections;
 
     public GameModel() {
-        this.random = new Random();
+        this(new Random());
+    }
+
+    // Graine fixe : pommes et réapparitions reproductibles (simulations)
+    public GameModel(long seed) {
+        this(new Random(seed));
+    }
+
+    private GameModel(Random random) {
+        this.random = random;
         this.running = false;
         this.paused = false;
     }
 
-    public void initGame(Player player1, Player player2, int boardWidth, int boardHeight) {
-        this.player1 = player1;
-        this.player2 = player2;
-
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
+    public void initGame(Player player1, Player player2, int cols, int rows) {
+        players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        arena = false;
+        resetDecisionStats();
 
         // Initialiser les serpents
-        snake1 = new Snake(190, 190, Color.GREEN, Direction.RIGHT, unitSize);
-        snake2 = new Snake(400, 400, Color.BLUE, Direction.LEFT, unitSize);
+        snakes = new ArrayList<>();
+        snakes.add(new Snake(9, 9, Color.GREEN, Direction.RIGHT));
+        snakes.add(new Snake(20, 20, Color.BLUE, Direction.LEFT));
+        resetGrids();
+        attachGrids(cols, rows);
+        start(cols, rows);
+    }
+
+    // Arène : un serpent par joueur, placé au hasard sur des cases libres
+    public void initArena(List<Player> arenaPlayers, int cols, int rows) {
+        if (arenaPlayers.isEmpty()) {
+            throw new IllegalArgumentException("Une arène demande au moins un joueur");
+        }
+        players = new ArrayList<>(arenaPlayers);
+        arena = true;
+        resetDecisionStats();
+
+        snakes = new ArrayList<>();
+        resetGrids();
+        for (int i = 0; i < players.size(); i++) {
+            snakes.add(new Snake(3, 3, arenaColor(i), Direction.RIGHT));
+            attachGrids(cols, rows);
+            respawnSnake(snakes.get(i), cols, rows);
+        }
+        start(cols, rows);
+    }
+
+    private void start(int cols, int rows) {
+        setBoardSize(cols, rows);
 
         // Initialiser les scores
-        player1Score = 0;
-        player2Score = 0;
+        scores = new int[snakes.size()];
 
         // Placer la première pomme
-        generateNewApple(boardWidth, boardHeight);
+        generateNewApple(cols, rows);
 
         running = true;
         paused = false;
+        tickCount = 0;
+        publishFrame();
+        schedulePlans();
 
         notifyGameStateChange(GameObserver.GameState.PLAYING);
     }
 
-    public void update(int boardWidth, int boardHeight) {
+    private static Color arenaColor(int index) {
+        if (index == 0) {
+            return Color.GREEN;
+        }
+        if (index == 1) {
+            return Color.BLUE;
+        }
+        // Teintes espacées par le nombre d'or : deux voisins restent distincts
+        return Color.getHSBColor((index * 0.618034f) % 1f, 0.8f, 0.95f);
+    }
+
+    public void update(int cols, int rows) {
         if (!running || paused)
             return;
 
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
+        AIPlanner currentPlanner = planner;
+        if (currentPlanner != null && (cols != boardCols || rows != boardRows)) {
+            // Plateau redimensionné : aucune IA ne doit lire les index pendant leur reconstruction
+            currentPlanner.discard();
+        }
+        setBoardSize(cols, rows);
+        attachGrids(cols, rows);
+
+        // Chaque phase émet un événement JFR (coût quasi nul sans enregistrement)
+        TickEvent tick = new TickEvent();
+        tick.begin();
+
+        // Les événements du tick sont diffusés en un seul lot (voir Observable)
+        beginEventBatch();
+
+        TickPhaseEvent phase = beginPhase("direction");
+        if (currentPlanner != null) {
+            applyPlannedDirections(currentPlanner, cols, rows);
+        } else {
+            for (int i = 0; i < snakes.size(); i++) {
+                players.get(i).updateDirection(snakes.get(i), appleCell, cols, rows);
+            }
+        }
+        if (inputListener != null && !arena) {
+            inputListener.onTickInput(cols, rows, snakes.get(0).getDirection(),
+                    snakes.get(1).getDirection());
+        }
+        commitPhase(phase);
 
-        // Enlever les commentaires pour tester les perfs
-        // long start = System.nanoTime();
+        // Tous les serpents avancent avant les vérifications : l'ordre ne favorise personne
+        phase = beginPhase("move");
+        for (int i = 0; i < snakes.size(); i++) {
+            snakes.get(i).move();
+        }
+        commitPhase(phase);
 
-        // long t1 = System.nanoTime();
-        player1.updateDirection(snake1, apple, boardWidth, boardHeight);
-        player2.updateDirection(snake2, apple, boardWidth, boardHeight);
-        // long t2 = System.nanoTime();
+        phase = beginPhase("apple");
+        checkAppleCollisions(cols, rows);
+        commitPhase(phase);
 
-        snake1.move(unitSize);
-        snake2.move(unitSize);
-        // long t3 = System.nanoTime();
+        phase = beginPhase("collision");
+        checkCollisions(cols, rows);
+        commitPhase(phase);
 
+        tickCount++;
+        publishFrame();
+
+        // Notifié après publication : les observateurs peuvent dessiner l'image du tick
+        phase = beginPhase("notify");
         notifySnakeMove();
-        // long t4 = System.nanoTime();
-
-        checkAppleCollisions(boardWidth, boardHeight);
-        // long t5 = System.nanoTime();
-
-        checkCollisions(boardWidth, boardHeight);
-        // long t6 = System.nanoTime();
-
-        /*
-         * long total = (t6 - start) / 1_000; // ms
-         * if (total > 70) { // Seulement si ça prend longtemps
-         * System.out.printf(
-         * "update total=%dms | dir=%dms | move=%dms | notify=%dms | apple=%dms | coll=%dms%n"
-         * ,
-         * total,
-         * (t2 - t1) / 1_000,
-         * (t3 - t2) / 1_000,
-         * (t4 - t3) / 1_000,
-         * (t5 - t4) / 1_000,
-         * (t6 - t5) / 1_000
-         * );
-         * }
-         */
-    }
-
-    private void checkAppleCollisions(int boardWidth, int boardHeight) {
-        boolean newAppleNeeded = false;
+        endEventBatch();
+        commitPhase(phase);
+
+        // Le plateau ne bougera plus avant le prochain tick : les IA peuvent déjà décider
+        if (currentPlanner != null) {
+            currentPlanner.schedule(players, snakes, appleCell, cols, rows);
+        }
+
+        tick.end();
+        if (tick.shouldCommit()) {
+            tick.snake1Length = getSnake1().getLength();
+            tick.snake2Length = snakes.size() > 1 ? getSnake2().getLength() : 0;
+            tick.player1Type = getPlayer1().getType().name();
+            tick.player2Type = snakes.size() > 1 ? getPlayer2().getType().name() : null;
+            tick.commit();
+        }
+    }
 
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
+    // Toutes les décisions sont récupérées avant d'en appliquer une : chaque IA voit le même plateau
+    private void applyPlannedDirections(AIPlanner currentPlanner, int cols, int rows) {
+        int count = snakes.size();
+        if (plannedDirections == null || plannedDirections.length < count) {
+            plannedDirections = new Direction[count];
+        }
+        for (int i = 0; i < count; i++) {
+            Player player = players.get(i);
+            if (player instanceof AIPlayer) {
+                plannedDirections[i] = currentPlanner.take(i, (AIPlayer) player, snakes.get(i), appleCell, cols, rows);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            Player player = players.get(i);
+            if (player instanceof AIPlayer) {
+                ((AIPlayer) player).applyDirection(snakes.get(i), plannedDirections[i]);
+            } else {
+                player.updateDirection(snakes.get(i), appleCell, cols, rows);
+            }
+        }
+    }
 
-        if (snake1.getHead().equals(apple)
-                || (Math.abs(snake1.getHead().getX() - apple.getX()) < unitSize
-                        && Math.abs(snake1.getHead().getY() - apple.getY()) < unitSize)) {
-            snake1.grow();
-            player1Score++;
-            notifyAppleEaten(player1.getName());
-            notifyScoreUpdate(player1Score, player2Score);
-            newAppleNeeded = true;
+    // Nouvelle partie ou chargement : les décisions préparées sont périmées
+    private void schedulePlans() {
+        AIPlanner currentPlanner = planner;
+        if (currentPlanner != null) {
+            currentPlanner.discard();
+            // Sans index (plateau encore inconnu), la planification attend le premier tick
+            if (running && spatialIndex != null) {
+                currentPlanner.schedule(players, snakes, appleCell, boardCols, boardRows);
+            }
         }
+    }
 
-        if (snake2.getHead().equals(apple)
-                || (Math.abs(snake2.getHead().getX() - apple.getX()) < unitSize
-                        && Math.abs(snake2.getHead().getY() - apple.getY()) < unitSize)) {
-            snake2.grow();
-            player2Score++;
-            notifyAppleEaten(player2.getName());
-            notifyScoreUpdate(player1Score, player2Score);
-            newAppleNeeded = true;
+    // Nouvelle partie : les temps de décision ne mélangent pas les parties précédentes
+    private void resetDecisionStats() {
+        for (Player player : players) {
+            if (player instanceof AIPlayer) {
+                ((AIPlayer) player).getDecisionStats().reset();
+            }
         }
+    }
 
-        if (newAppleNeeded) {
-            generateNewApple(boardWidth, boardHeight);
+    // Temps de décision des IA de ce type dans la partie ; sous le verrou du modèle, hors planification
+    public DecisionStats getDecisionStats(Player.PlayerType type) {
+        DecisionStats stats = new DecisionStats(type);
+        for (Player player : players) {
+            if (player instanceof AIPlayer && player.getType() == type) {
+                stats.combine(((AIPlayer) player).getDecisionStats());
+            }
         }
+        return stats;
     }
 
-    private void checkCollisions(int boardWidth, int boardHeight) {
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
-        // Vérifier les collisions du serpent 1
-        if (snake1.checkSelfCollision() || snake1.checkWallCollision(boardWidth, boardHeight, unitSize)) {
-            player2Score += 5;
-            notifyCollision(player1.getName());
-            notifyScoreUpdate(player1Score, player2Score);
-            respawnSnake(snake1, boardWidth, boardHeight);
+    // Une ligne par type d'IA ayant décidé au moins une fois
+    public String getDecisionReport() {
+        List<DecisionStats> stats = new ArrayList<>();
+        for (Player.PlayerType type : Player.PlayerType.values()) {
+            stats.add(getDecisionStats(type));
         }
+        return DecisionStats.getReport(stats);
+    }
 
-        // Vérifier les collisions du serpent 2
-        if (snake2.checkSelfCollision() || snake2.checkWallCollision(boardWidth, boardHeight, unitSize)) {
-            player1Score += 5;
-            notifyCollision(player2.getName());
-            notifyScoreUpdate(player1Score, player2Score);
-            respawnSnake(snake2, boardWidth, boardHeight);
+    // Publie l'état courant pour le rendu : une seule écriture volatile par tick
+    void publishFrame() {
+        if (snakes.isEmpty() || !framePublishing) {
+            return;
         }
+        FrameSnapshot.SnakeFrame[] snakeFrames = new FrameSnapshot.SnakeFrame[snakes.size()];
+        String[] names = new String[snakes.size()];
+        for (int i = 0; i < snakeFrames.length; i++) {
+            snakeFrames[i] = new FrameSnapshot.SnakeFrame(snakes.get(i));
+            Player player = players.get(i);
+            names[i] = player != null ? player.getName() : "Joueur " + (i + 1);
+        }
+        frame = new FrameSnapshot(tickCount, boardCols, boardRows, snakeFrames, names, scores.clone(), hasApple(), appleCell,
+                running, paused);
     }
 
-    private void respawnSnake(Snake snake, int boardWidth, int boardHeight) {
-        int x, y;
-        Direction[] directions = Direction.values();
-        Direction newDirection;
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
+    private TickPhaseEvent beginPhase(String name) {
+        TickPhaseEvent event = new TickPhaseEvent();
+        event.phase = name;
+        event.begin();
+        return event;
+    }
+
+    private void commitPhase(TickPhaseEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.snake1Length = getSnake1().getLength();
+            event.snake2Length = snakes.size() > 1 ? getSnake2().getLength() : 0;
+            event.player1Type = getPlayer1().getType().name();
+            event.player2Type = snakes.size() > 1 ? getPlayer2().getType().name() : null;
+            event.commit();
+        }
+    }
+
+    // Dimensions du plateau en cases (chargement d'une sauvegarde)
+    void setBoardSize(int cols, int rows) {
+        this.boardCols = cols;
+        this.boardRows = rows;
+    }
+
+    // Reconstruit les grilles d'occupation si le plateau a changé (chargement, redimensionnement)
+    private void attachGrids(int cols, int rows) {
+        // Index spatial : tout le plateau, bords compris
+        if (spatialIndex == null || !spatialIndex.matches(cols, rows)) {
+            spatialIndex = new SpatialIndex(cols, rows);
+        }
+
+        // Zone des pommes : sous la barre de score, au-dessus de la dernière ligne
+        if (freeCells == null || !freeCells.matches(cols, 2, rows - 4)) {
+            freeCells = new FreeCellSet(cols, 2, rows - 4);
+        }
+
+        for (int i = 0; i < snakes.size(); i++) {
+            Snake snake = snakes.get(i);
+            snake.attachFreeCells(freeCells);
+            snake.attachIndex(spatialIndex, i);
+        }
+    }
+
+    // Nouveaux serpents : grilles reconstruites au prochain attachGrids
+    private void resetGrids() {
+        freeCells = null;
+        spatialIndex = null;
+    }
+
+    private void checkAppleCollisions(int cols, int rows) {
+        if (!hasApple()) {
+            return;
+        }
+        boolean newAppleNeeded = false;
+
+        for (int i = 0; i < snakes.size(); i++) {
+            Snake snake = snakes.get(i);
+            if (snake.getCell(0) == appleCell) {
+                snake.grow();
+                scores[i]++;
+                notifyAppleEaten(players.get(i).getName());
+                notifyScoreUpdate(getPlayer1Score(), getPlayer2Score());
+                newAppleNeeded = true;
+            }
+        }
+
+        if (newAppleNeeded) {
+            generateNewApple(cols, rows);
+        }
+    }
+
+    private void checkCollisions(int cols, int rows) {
+        int count = snakes.size();
+        if (killers == null || killers.length < count) {
+            killers = new int[count];
+        }
 
-        x = (random.nextInt(boardWidth / unitSize - 6) + 3) * unitSize;
-        y = (random.nextInt(boardHeight / unitSize - 6) + 3) * unitSize;
-        newDirection = directions[random.nextInt(directions.length)];
+        // Première passe : toutes les collisions sont relevées avant la moindre
+        // réapparition, avec une seule lecture de l'index par tête
+        for (int i = 0; i < count; i++) {
+            Snake snake = snakes.get(i);
+            if (snake.checkSelfCollision() || snake.checkWallCollision(cols, rows)) {
+                // En duel l'adversaire marque, dans une arène personne
+                killers[i] = arena ? SpatialIndex.NO_OWNER : 1 - i;
+            } else if (spatialIndex.count(snake.getCell(0)) > 1) {
+                // Tête dans un autre serpent : le cou de l'autre reste occupé,
+                // deux têtes qui se croisent sont donc aussi détectées
+                killers[i] = spatialIndex.otherOwner(snake.getCell(0), i);
+            } else {
+                killers[i] = ALIVE;
+            }
+        }
 
-        snake.respawn(x, y, newDirection, unitSize);
+        // Seconde passe : points, notifications et réapparitions
+        for (int i = 0; i < count; i++) {
+            int killer = killers[i];
+            if (killer == ALIVE) {
+                continue;
+            }
+            if (killer >= 0) {
+                scores[killer] += COLLISION_PENALTY;
+            }
+            notifyCollision(players.get(i).getName());
+            notifyScoreUpdate(getPlayer1Score(), getPlayer2Score());
+            respawnSnake(snakes.get(i), cols, rows);
+        }
     }
 
-    private void generateNewApple(int boardWidth, int boardHeight) {
-        int x, y;
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
-        do {
-            x = random.nextInt(boardWidth / unitSize) * unitSize;
-            y = random.nextInt((boardHeight - 4 * unitSize) / unitSize) * unitSize + 2 * unitSize; // -80 puis +40 pour
-                                                                                                   // ne pas avoir de
-                                                                                                   // pomme au niveau du
-                                                                                                   // score, ni en
-                                                                                                   // dehors de la
-                                                                                                   // grille
-        } while (isPositionOccupied(x, y));
+    private void respawnSnake(Snake snake, int cols, int rows) {
+        int col = 0, row = 0;
+        Direction[] directions = Direction.values();
+        Direction newDirection = Direction.RIGHT;
+
+        // Quelques tirages au plus pour éviter les autres serpents
+        for (int attempt = 0; attempt < RESPAWN_ATTEMPTS; attempt++) {
+            col = random.nextInt(cols - 6) + 3;
+            row = random.nextInt(rows - 6) + 3;
+            newDirection = directions[random.nextInt(directions.length)];
+            if (isSpawnFree(snake, col, row, newDirection)) {
+                break;
+            }
+        }
 
-        apple = new Point(x, y);
+        snake.respawn(Cell.pack(col, row), newDirection);
     }
 
-    private boolean isPositionOccupied(int x, int y) {
-        return (snake1 != null && snake1.occupies(x, y)) ||
-                (snake2 != null && snake2.occupies(x, y));
+    // Le corps de départ et la case devant la tête doivent être libres (hors serpent lui-même)
+    private boolean isSpawnFree(Snake snake, int col, int row, Direction direction) {
+        for (int i = -1; i < 3; i++) {
+            int cell = Cell.pack(col - i * direction.getDx(), row - i * direction.getDy());
+            if (spatialIndex.isOccupied(cell) && !snake.occupiesCell(cell)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    // Visibilité package pour les benchmarks
+    void generateNewApple(int cols, int rows) {
+        attachGrids(cols, rows);
+
+        // Tirage uniforme parmi les cases libres, quel que soit le remplissage
+        int cell = freeCells.randomFreeCell(random);
+        if (cell < 0) {
+            return; // Plateau plein : la pomme reste en place
+        }
+        appleCell = cell;
+    }
+
+    // Publie une image : à appeler sous le verrou du modèle, comme update()
     public void togglePause() {
         paused = !paused;
+        publishFrame();
         notifyGameStateChange(paused ? GameObserver.GameState.PAUSED : GameObserver.GameState.PLAYING);
     }
 
     public void endGame() {
         running = false;
+        publishFrame();
         notifyGameStateChange(GameObserver.GameState.GAME_OVER);
     }
 
+    // Avec une graine fixe, ces directions suffisent à rejouer un duel à l'identique ;
+    // le journal ne connaît que deux joueurs, l'écouteur est ignoré dans une arène
+    public void setInputListener(TickInputListener inputListener) {
+        this.inputListener = inputListener;
+    }
+
+    // Sans rendu (simulations, arènes), inutile de copier les corps à chaque tick
+    public void setFramePublishing(boolean framePublishing) {
+        this.framePublishing = framePublishing;
+        if (!framePublishing) {
+            frame = null;
+        }
+    }
+
+    // Les IA décident sur un thread dédié pendant l'attente entre deux ticks
+    public void enableBackgroundPlanning() {
+        if (planner == null) {
+            planner = new AIPlanner();
+            planner.start();
+            schedulePlans();
+        }
+    }
+
+    // Revient aux décisions synchrones ; à appeler sous le verrou du modèle, hors tick
+    public void disableBackgroundPlanning() {
+        AIPlanner currentPlanner = planner;
+        if (currentPlanner != null) {
+            planner = null;
+            currentPlanner.stop();
+            currentPlanner.discard();
+        }
+    }
+
+    public AIPlanner getPlanner() {
+        return planner;
+    }
+
     // Méthodes pour les contrôles du joueur humain
     public void setPlayer1Direction(Direction direction) {
-        if (player1 instanceof HumanPlayer) {
-            ((HumanPlayer) player1).setPendingDirection(direction);
+        if (getPlayer1() instanceof HumanPlayer) {
+            ((HumanPlayer) getPlayer1()).setPendingDirection(direction);
         }
     }
 
     public void setPlayer2Direction(Direction direction) {
-        if (player2 instanceof HumanPlayer) {
-            ((HumanPlayer) player2).setPendingDirection(direction);
+        if (getPlayer2() instanceof HumanPlayer) {
+            ((HumanPlayer) getPlayer2()).setPendingDirection(direction);
         }
     }
 
     // Getters
+    public int getSnakeCount() {
+        return snakes.size();
+    }
+
+    public Snake getSnake(int index) {
+        return snakes.get(index);
+    }
+
+    public Player getPlayer(int index) {
+        return players.get(index);
+    }
+
+    public int getScore(int index) {
+        return scores[index];
+    }
+
     public Snake getSnake1() {
-        return snake1;
+        return snakes.isEmpty() ? null : snakes.get(0);
     }
 
     public Snake getSnake2() {
-        return snake2;
+        return snakes.size() < 2 ? null : snakes.get(1);
     }
 
     public Player getPlayer1() {
-        return player1;
+        return players.isEmpty() ? null : players.get(0);
     }
 
     public Player getPlayer2() {
-        return player2;
+        return players.size() < 2 ? null : players.get(1);
     }
 
-    public Point getApple() {
-        return apple;
+    // Case compactée de la pomme, Cell.NONE si aucune
+    public int getAppleCell() {
+        return appleCell;
+    }
+
+    public boolean hasApple() {
+        return appleCell != Cell.NONE;
     }
 
     public int getPlayer1Score() {
-        return player1Score;
+        return scores.length > 0 ? scores[0] : 0;
     }
 
     public int getPlayer2Score() {
-        return player2Score;
+        return scores.length > 1 ? scores[1] : 0;
+    }
+
+    public int getBoardCols() {
+        return boardCols;
+    }
+
+    public int getBoardRows() {
+        return boardRows;
+    }
+
+    public FrameSnapshot getFrame() {
+        return frame;
     }
 
     public boolean isRunning() {
@@ -245,15 +559,24 @@ public class GameModel extends Observable implements Serializable {
 
     // Setters pour le chargement
     public void setGameState(Snake snake1, Snake snake2, Player player1, Player player2,
-            Point apple, int player1Score, int player2Score) {
-        this.snake1 = snake1;
-        this.snake2 = snake2;
-        this.player1 = player1;
-        this.player2 = player2;
-        this.apple = apple;
-        this.player1Score = player1Score;
-        this.player2Score = player2Score;
+            int appleCell, int player1Score, int player2Score) {
+        this.snakes = new ArrayList<>();
+        snakes.add(snake1);
+        snakes.add(snake2);
+        this.players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        this.arena = false;
+        this.appleCell = appleCell;
+        this.scores = new int[] { player1Score, player2Score };
+        resetGrids();
+        if (boardCols > 0 && boardRows > 0) {
+            // Avant la planification : les IA doivent voir les index des nouveaux serpents
+            attachGrids(boardCols, boardRows);
+        }
         this.running = true;
         this.paused = false;
+        publishFrame();
+        schedulePlans();
     }
 }
\ No newline at end of file
@@ -1,55 +1,272 @@
 package model;
 
 import model.player.Player;
+import model.player.PlayerFactory;
+import util.Helper;
+import java.awt.Color;
 import java.awt.Point;
 import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Classe pour gérer la sauvegarde et le chargement des parties
+ *
+ * Format binaire (big-endian) : en-tête "SNKB" + version, taille de case,
+ * dimensions du plateau (version 2), type et nom des joueurs, scores, pomme
+ * et cases compactées des serpents. Trois formats sont lus :
+ * - version 2, le format écrit ;
+ * - version 1, le même format binaire sans les dimensions du plateau ;
+ * - sérialisation Java (fichier sans en-tête "SNKB"), les sauvegardes
+ *   d'avant le format binaire.
+ * Sans dimensions (version 1, sérialisation Java), la partie reprend sur le
+ * plateau par défaut.
  */
 public class SaveState implements Serializable {
     private static final long serialVersionUID = 1L;
-    
+
+    private static final int MAGIC = 0x534E4B42; // "SNKB"
+    private static final short VERSION = 2;
+    private static final short VERSION_WITHOUT_BOARD = 1;
+    private static final int HEADER_SIZE = 6;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Player.PlayerType[] PLAYER_TYPES = Player.PlayerType.values();
+
     private Snake snake1;
     private Snake snake2;
     private Player player1;
     private Player player2;
-    private Point apple;
+    private Point apple; // Pixels de 20 : champ de l'ancien format sérialisé uniquement
+    private transient int appleCell;
     private int player1Score;
     private int player2Score;
-    
+    private int boardCols; // 0 dans les anciennes sauvegardes : plateau par défaut
+    private int boardRows;
+
     public SaveState(GameModel model) {
         this.snake1 = model.getSnake1();
         this.snake2 = model.getSnake2();
         this.player1 = model.getPlayer1();
         this.player2 = model.getPlayer2();
-        this.apple = model.getApple();
+        this.appleCell = model.getAppleCell();
+        this.apple = toLegacyPoint(appleCell);
         this.player1Score = model.getPlayer1Score();
         this.player2Score = model.getPlayer2Score();
+        this.boardCols = model.getBoardCols();
+        this.boardRows = model.getBoardRows();
     }
-    
+
+    private SaveState(Snake snake1, Snake snake2, Player player1, Player player2,
+            int appleCell, int player1Score, int player2Score, int boardCols, int boardRows) {
+        this.snake1 = snake1;
+        this.snake2 = snake2;
+        this.player1 = player1;
+        this.player2 = player2;
+        this.appleCell = appleCell;
+        this.apple = toLegacyPoint(appleCell);
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.boardCols = boardCols;
+        this.boardRows = boardRows;
+    }
+
     public void save(String filename) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize());
+        encode(buffer);
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    // Ancien format (sérialisation Java), conservé pour les comparaisons de performances
+    void saveSerialized(String filename) throws IOException {
         try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(filename))) {
             out.writeObject(this);
         }
     }
-    
+
     public static SaveState load(String filename) throws IOException, ClassNotFoundException {
-        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(filename))) {
-            return (SaveState) in.readObject();
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Fichier de sauvegarde trop volumineux: " + size);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Lecture complète du fichier
+            }
+            buffer.flip();
+        }
+
+        if (buffer.remaining() >= HEADER_SIZE && buffer.getInt(0) == MAGIC) {
+            return decode(buffer);
+        }
+        // Repli : ancienne sauvegarde en sérialisation Java
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.array(), 0, buffer.limit()))) {
+            SaveState state = (SaveState) in.readObject();
+            // La pomme y est en pixels de la taille de case du serpent
+            int unitSize = state.snake1.getSerializedUnitSize();
+            state.appleCell = state.apple != null && unitSize > 0
+                    ? Cell.pack(Math.floorDiv(state.apple.x, unitSize), Math.floorDiv(state.apple.y, unitSize))
+                    : Cell.NONE;
+            return state;
         }
     }
-    
+
     public void restoreToModel(GameModel model) {
-        model.setGameState(snake1, snake2, player1, player2, apple, player1Score, player2Score);
+        model.setBoardSize(getBoardCols(), getBoardRows());
+        model.setGameState(snake1, snake2, player1, player2, appleCell, player1Score, player2Score);
+    }
+
+    private static Point toLegacyPoint(int appleCell) {
+        return appleCell != Cell.NONE
+                ? new Point(Cell.col(appleCell) * Snake.LEGACY_UNIT_SIZE, Cell.row(appleCell) * Snake.LEGACY_UNIT_SIZE)
+                : null;
+    }
+
+    private int encodedSize() {
+        return HEADER_SIZE + 4 + 2 * 4
+                + playerSize(player1) + playerSize(player2)
+                + 2 * 4
+                + 1 + 4
+                + snakeSize(snake1) + snakeSize(snake2);
+    }
+
+    private void encode(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putInt(Snake.LEGACY_UNIT_SIZE); // Champ conservé, ignoré à la lecture
+        buffer.putInt(getBoardCols());
+        buffer.putInt(getBoardRows());
+
+        putPlayer(buffer, player1);
+        putPlayer(buffer, player2);
+        buffer.putInt(player1Score);
+        buffer.putInt(player2Score);
+
+        buffer.put((byte) (appleCell != Cell.NONE ? 1 : 0));
+        buffer.putInt(appleCell != Cell.NONE ? appleCell : 0);
+
+        putSnake(buffer, snake1);
+        putSnake(buffer, snake2);
+    }
+
+    private static SaveState decode(ByteBuffer buffer) throws IOException {
+        try {
+            buffer.getInt(); // En-tête déjà vérifié
+            short version = buffer.getShort();
+            if (version != VERSION && version != VERSION_WITHOUT_BOARD) {
+                throw new IOException("Version de sauvegarde non supportée: " + version);
+            }
+            if (buffer.getInt() <= 0) {
+                throw new IOException("Taille de case invalide");
+            }
+            // Les cases sont logiques : la taille de case enregistrée n'est plus utilisée
+            int boardCols = 0;
+            int boardRows = 0;
+            if (version != VERSION_WITHOUT_BOARD) {
+                boardCols = buffer.getInt();
+                boardRows = buffer.getInt();
+                if (boardCols <= 0 || boardCols > Helper.MAX_BOARD_CELLS
+                        || boardRows <= 0 || boardRows > Helper.MAX_BOARD_CELLS) {
+                    throw new IOException("Plateau invalide: " + boardCols + "x" + boardRows);
+                }
+            }
+
+            Player player1 = getPlayer(buffer);
+            Player player2 = getPlayer(buffer);
+            int player1Score = buffer.getInt();
+            int player2Score = buffer.getInt();
+
+            boolean hasApple = buffer.get() != 0;
+            int appleCell = buffer.getInt();
+
+            Snake snake1 = getSnake(buffer);
+            Snake snake2 = getSnake(buffer);
+            return new SaveState(snake1, snake2, player1, player2, hasApple ? appleCell : Cell.NONE,
+                    player1Score, player2Score,
+                    boardCols, boardRows);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Sauvegarde corrompue", e);
+        }
+    }
+
+    private static int playerSize(Player player) {
+        return 1 + 2 + nameBytes(player).length;
+    }
+
+    private static byte[] nameBytes(Player player) {
+        // Seul le nom d'un joueur humain est libre ; celui des IA dépend du type
+        String name = player.getType() == Player.PlayerType.HUMAN ? player.getName() : "";
+        return name != null ? name.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    private static void putPlayer(ByteBuffer buffer, Player player) {
+        byte[] name = nameBytes(player);
+        buffer.put((byte) player.getType().ordinal());
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+    }
+
+    private static Player getPlayer(ByteBuffer buffer) throws IOException {
+        int type = buffer.get();
+        if (type < 0 || type >= PLAYER_TYPES.length) {
+            throw new IOException("Type de joueur inconnu: " + type);
+        }
+        byte[] name = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(name);
+        return PlayerFactory.createPlayer(PLAYER_TYPES[type], new String(name, StandardCharsets.UTF_8));
+    }
+
+    private static int snakeSize(Snake snake) {
+        return 4 + 1 + 1 + 4 + 4 * snake.getLength();
+    }
+
+    private static void putSnake(ByteBuffer buffer, Snake snake) {
+        buffer.putInt(snake.getColor().getRGB());
+        buffer.put((byte) snake.getDirection().ordinal());
+        buffer.put((byte) (snake.isGrowing() ? 1 : 0));
+        buffer.putInt(snake.getLength());
+        for (int i = 0; i < snake.getLength(); i++) {
+            buffer.putInt(snake.getCell(i));
+        }
+    }
+
+    private static Snake getSnake(ByteBuffer buffer) throws IOException {
+        Color color = new Color(buffer.getInt(), true);
+        int direction = buffer.get();
+        if (direction < 0 || direction >= DIRECTIONS.length) {
+            throw new IOException("Direction invalide: " + direction);
+        }
+        boolean growing = buffer.get() != 0;
+        int length = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining() / 4) {
+            throw new IOException("Longueur de serpent invalide: " + length);
+        }
+        int[] cells = new int[length];
+        buffer.asIntBuffer().get(cells);
+        buffer.position(buffer.position() + 4 * length);
+        return new Snake(cells, length, DIRECTIONS[direction], color, growing);
     }
-    
+
     // Getters
     public Snake getSnake1() { return snake1; }
     public Snake getSnake2() { return snake2; }
     public Player getPlayer1() { return player1; }
     public Player getPlayer2() { return player2; }
-    public Point getApple() { return apple; }
+    public int getAppleCell() { return appleCell; }
     public int getPlayer1Score() { return player1Score; }
     public int getPlayer2Score() { return player2Score; }
-}
\ No newline at end of file
+    public int getBoardCols() { return boardCols > 0 ? boardCols : Helper.DEFAULT_BOARD_CELLS; }
+    public int getBoardRows() { return boardRows > 0 ? boardRows : Helper.DEFAULT_BOARD_CELLS; }
+}
@@ -2,50 +2,141 @@ package model;
 
 import java.awt.Color;
 import java.awt.Point;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Classe représentant un serpent
+ *
+ * Toutes les positions sont des cases compactées (voir Cell) : aucune
+ * méthode appelée pendant un tick n'alloue d'objet.
  */
 public class Snake implements Serializable {
     private static final long serialVersionUID = 1L;
     private static final int INITIAL_SIZE = 3;
+    private static final int INITIAL_CAPACITY = 16; // Puissance de 2
+    // Ancien format sérialisé en pixels : taille de case utilisée à l'écriture
+    static final int LEGACY_UNIT_SIZE = 20;
 
-    private List<Point> body;
-    private Direction direction;
-    private Color color;
-    private boolean growing;
+    // Format sérialisé inchangé (liste de Point) pour relire les anciennes sauvegardes
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("body", List.class),
+            new ObjectStreamField("direction", Direction.class),
+            new ObjectStreamField("color", Color.class),
+            new ObjectStreamField("growing", boolean.class),
+            new ObjectStreamField("unitSize", int.class)
+    };
 
-    public Snake(int x, int y, Color color, Direction initialDirection, int unitSize) {
+    // Corps stocké dans un tampon circulaire de cases compactées (voir Cell)
+    private transient int[] cells;
+    private transient int headIndex;
+    private transient int length;
+    private transient Direction direction;
+    private transient Color color;
+    private transient boolean growing;
+    private transient FreeCellSet freeCells; // Cases libres du plateau, partagées entre serpents
+    private transient SpatialIndex index; // Occupation de tous les serpents du plateau
+    private transient int indexId;
+    private transient int serializedUnitSize; // Lue dans une ancienne sauvegarde, 0 sinon
+
+    public Snake(int col, int row, Color color, Direction initialDirection) {
         this.color = color;
-        this.direction = initialDirection;
-        this.body = new ArrayList<>();
+        this.cells = new int[INITIAL_CAPACITY];
         this.growing = false;
+        respawn(Cell.pack(col, row), initialDirection);
+    }
 
-        // Initialiser le corps du serpent
-        for (int i = 0; i < INITIAL_SIZE; i++) {
-            body.add(new Point(x - i * unitSize * initialDirection.getDx(),
-                    y - i * unitSize * initialDirection.getDy()));
+    // Reconstruit un serpent depuis ses cases compactées (sauvegarde binaire)
+    Snake(int[] body, int length, Direction direction, Color color, boolean growing) {
+        if (length <= 0 || length > body.length) {
+            throw new IllegalArgumentException("Longueur de serpent invalide: " + length);
+        }
+        this.cells = new int[capacityFor(length)];
+        System.arraycopy(body, 0, cells, 0, length);
+        this.headIndex = 0;
+        this.length = length;
+        this.direction = direction;
+        this.color = color;
+        this.growing = growing;
+    }
+
+    // Inscrit le corps dans l'ensemble des cases libres partagé du plateau
+    public void attachFreeCells(FreeCellSet freeCells) {
+        if (this.freeCells == freeCells) {
+            return;
+        }
+        this.freeCells = freeCells;
+        for (int i = 0; i < length; i++) {
+            freeCells.occupy(getCell(i));
+        }
+    }
+
+    // Inscrit le corps dans l'index spatial partagé, sous l'identifiant du serpent
+    public void attachIndex(SpatialIndex index, int id) {
+        if (this.index == index && this.indexId == id) {
+            return;
+        }
+        if (this.index != null) {
+            for (int i = 0; i < length; i++) {
+                this.index.remove(getCell(i), indexId);
+            }
+        }
+        this.index = index;
+        this.indexId = id;
+        for (int i = 0; i < length; i++) {
+            index.add(getCell(i), id);
         }
     }
 
-    public void move(int unitSize) {
-        Point newHead = getNextPosition(direction, unitSize);
-        body.add(0, newHead);
+    public void move() {
+        int newHead = Cell.move(getCell(0), direction);
+
+        if (growing && length == cells.length) {
+            expand();
+        }
+        int tail = getCell(length - 1);
+
+        // La tête prend la case précédente, la queue libère la sienne
+        headIndex = (headIndex - 1) & (cells.length - 1);
+        cells[headIndex] = newHead;
+        if (freeCells != null) {
+            freeCells.occupy(newHead);
+        }
+        if (index != null) {
+            index.add(newHead, indexId);
+        }
 
         if (!growing) {
-            body.remove(body.size() - 1);
+            if (freeCells != null) {
+                freeCells.release(tail);
+            }
+            if (index != null) {
+                index.remove(tail, indexId);
+            }
         } else {
+            length++;
             growing = false;
         }
     }
 
-    public Point getNextPosition(Direction dir, int unitSize) {
-        Point head = getHead();
-        return new Point(head.x + dir.getDx() * unitSize,
-                head.y + dir.getDy() * unitSize);
+    // Double la capacité du tampon en remettant la tête à l'indice 0
+    private void expand() {
+        int[] larger = new int[cells.length * 2];
+        for (int i = 0; i < length; i++) {
+            larger[i] = getCell(i);
+        }
+        cells = larger;
+        headIndex = 0;
+    }
+
+    // Case où arriverait la tête dans cette direction
+    public int getNextCell(Direction dir) {
+        return Cell.move(getCell(0), dir);
     }
 
     public void grow() {
@@ -53,46 +144,85 @@ public class Snake implements Serializable {
     }
 
     public boolean checkSelfCollision() {
-        Point head = getHead();
-        for (int i = 1; i < body.size(); i++) {
-            if (head.equals(body.get(i))) {
+        int head = getCell(0);
+        // Index partagé : un autre de ses segments dans la case de la tête
+        if (index != null) {
+            return index.count(head, indexId) > 1;
+        }
+        for (int i = 1; i < length; i++) {
+            if (head == getCell(i)) {
                 return true;
             }
         }
         return false;
     }
 
-    public boolean checkWallCollision(int width, int height, int unitSize) {
-        Point head = getHead();
-        return head.x < 0 || head.x >= width ||
-                head.y < 2 * unitSize || head.y >= height - 1 * unitSize;
+    public boolean checkWallCollision(int cols, int rows) {
+        return isWall(getCell(0), cols, rows);
     }
 
-    public boolean occupies(int x, int y) {
-        for (Point segment : body) {
-            if (segment.x == x && segment.y == y) {
+    // Les deux premières lignes (barre de score) et la dernière sont des murs
+    public static boolean isWall(int cell, int cols, int rows) {
+        int col = Cell.col(cell);
+        int row = Cell.row(cell);
+        return col < 0 || col >= cols ||
+                row < 2 || row >= rows - 1;
+    }
+
+    // Sans index partagé (serpent seul, hors partie), les vérifications parcourent le corps
+    public boolean occupiesCell(int cell) {
+        if (index != null) {
+            return index.count(cell, indexId) > 0;
+        }
+        for (int i = 0; i < length; i++) {
+            if (getCell(i) == cell) {
                 return true;
             }
         }
         return false;
     }
 
-    public boolean wouldCollideWithSelf(Point position) {
-        for (int i = 1; i < body.size(); i++) {
-            if (position.equals(body.get(i))) {
+    // Case occupée par n'importe quel serpent du plateau (le sien seul sans index partagé)
+    public boolean isCellBlocked(int cell) {
+        return index != null ? index.isOccupied(cell) : occupiesCell(cell);
+    }
+
+    public boolean wouldCollideWithSelf(int cell) {
+        // La tête ne compte pas : seuls les segments suivants bloquent
+        if (index != null) {
+            return index.count(cell, indexId) > (cell == getCell(0) ? 1 : 0);
+        }
+        for (int i = 1; i < length; i++) {
+            if (cell == getCell(i)) {
                 return true;
             }
         }
         return false;
     }
 
-    public void respawn(int x, int y, Direction newDirection, int unitSize) {
-        body.clear();
+    public void respawn(int head, Direction newDirection) {
+        for (int i = 0; i < length; i++) {
+            if (freeCells != null) {
+                freeCells.release(getCell(i));
+            }
+            if (index != null) {
+                index.remove(getCell(i), indexId);
+            }
+        }
         this.direction = newDirection;
+        this.headIndex = 0;
+        this.length = 0;
 
         for (int i = 0; i < INITIAL_SIZE; i++) {
-            body.add(new Point(x - i * unitSize * newDirection.getDx(),
-                    y - i * unitSize * newDirection.getDy()));
+            int segment = Cell.pack(Cell.col(head) - i * newDirection.getDx(),
+                    Cell.row(head) - i * newDirection.getDy());
+            cells[length++] = segment;
+            if (freeCells != null) {
+                freeCells.occupy(segment);
+            }
+            if (index != null) {
+                index.add(segment, indexId);
+            }
         }
     }
 
@@ -100,13 +230,22 @@ public class Snake implements Serializable {
         return newDirection != null && !direction.isOpposite(newDirection);
     }
 
+    private static int capacityFor(int length) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < length) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
     // Getters et Setters
-    public Point getHead() {
-        return new Point(body.get(0));
+    public int getHeadCell() {
+        return getCell(0);
     }
 
-    public List<Point> getBody() {
-        return new ArrayList<>(body);
+    // Case compactée du i-ème segment (0 = tête)
+    public int getCell(int index) {
+        return cells[(headIndex + index) & (cells.length - 1)];
     }
 
     public Direction getDirection() {
@@ -128,6 +267,60 @@ public class Snake implements Serializable {
     }
 
     public int getLength() {
-        return body.size();
+        return length;
+    }
+
+    // Taille de case d'une ancienne sauvegarde sérialisée (pixels), 0 sinon
+    int getSerializedUnitSize() {
+        return serializedUnitSize;
+    }
+
+    // Vrai si la queue reste en place au prochain déplacement (pomme mangée)
+    public boolean isGrowing() {
+        return growing;
+    }
+
+    // Sérialisation : le corps est écrit comme une liste de Point en pixels
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        List<Point> body = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            int cell = getCell(i);
+            body.add(new Point(Cell.col(cell) * LEGACY_UNIT_SIZE, Cell.row(cell) * LEGACY_UNIT_SIZE));
+        }
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("body", body);
+        fields.put("direction", direction);
+        fields.put("color", color);
+        fields.put("growing", growing);
+        fields.put("unitSize", LEGACY_UNIT_SIZE);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        List<Point> body = (List<Point>) fields.get("body", null);
+        direction = (Direction) fields.get("direction", null);
+        color = (Color) fields.get("color", null);
+        growing = fields.get("growing", false);
+        int unitSize = fields.get("unitSize", 0);
+
+        if (body == null || body.isEmpty()) {
+            throw new java.io.InvalidObjectException("Serpent sans corps");
+        }
+        if (unitSize <= 0) {
+            // Anciennes sauvegardes : la taille de case est l'écart entre deux segments
+            Point a = body.get(0);
+            Point b = body.get(Math.min(1, body.size() - 1));
+            unitSize = Math.max(1, Math.abs(a.x - b.x) + Math.abs(a.y - b.y));
+        }
+
+        serializedUnitSize = unitSize;
+        cells = new int[capacityFor(body.size())];
+        headIndex = 0;
+        length = 0;
+        for (Point segment : body) {
+            cells[length++] = Cell.pack(Math.floorDiv(segment.x, unitSize), Math.floorDiv(segment.y, unitSize));
+        }
     }
-}
\ No newline at end of file
+}
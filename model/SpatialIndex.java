@@ -0,0 +1,189 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index spatial partagé par tous les serpents du plateau : nombre de segments
+ * de chaque serpent dans chaque case. Les collisions entre serpents se
+ * résolvent en consultant la case de chaque tête, en temps constant.
+ *
+ * Le premier occupant d'une case est rangé dans des tableaux ; les autres
+ * serpents de la même case (collision, en nombre quelconque) vont dans une
+ * table de débordement, vide en dehors des collisions.
+ */
+public class SpatialIndex {
+    public static final int NO_OWNER = -1;
+
+    private final CellSlots slots; // Dense, ou creux sur les très grands plateaux
+    private short[] counts; // Segments de tous les serpents
+    private int[] owners; // Occupant principal de la case
+    private short[] ownerCounts; // Segments de l'occupant principal
+    private final Map<Integer, Occupants> shared = new HashMap<>(); // Emplacement -> autres occupants
+
+    public SpatialIndex(int cols, int rows) {
+        this.slots = new CellSlots(cols, rows);
+        int capacity = slots.capacity();
+        this.counts = new short[capacity];
+        this.owners = new int[capacity];
+        this.ownerCounts = new short[capacity];
+        Arrays.fill(owners, NO_OWNER);
+    }
+
+    public boolean matches(int cols, int rows) {
+        return slots.matches(cols, rows);
+    }
+
+    public void add(int cell, int owner) {
+        int index = slots.add(cell);
+        if (index < 0) {
+            return;
+        }
+        if (index >= counts.length) {
+            grow(slots.capacity());
+        }
+        counts[index]++;
+        if (owners[index] == NO_OWNER) {
+            owners[index] = owner;
+            ownerCounts[index] = 1;
+        } else if (owners[index] == owner) {
+            ownerCounts[index]++;
+        } else {
+            shared.computeIfAbsent(index, key -> new Occupants()).add(owner);
+        }
+    }
+
+    public void remove(int cell, int owner) {
+        int index = slots.find(cell);
+        if (index < 0 || counts[index] == 0) {
+            return;
+        }
+        if (owners[index] == owner) {
+            if (--ownerCounts[index] == 0) {
+                promote(index);
+            }
+        } else {
+            Occupants others = shared.get(index);
+            if (others == null || !others.remove(owner)) {
+                return; // Serpent absent de la case
+            }
+            if (others.isEmpty()) {
+                shared.remove(index);
+            }
+        }
+        if (--counts[index] == 0) {
+            slots.remove(cell);
+        }
+    }
+
+    // L'occupant principal est parti : un autre serpent de la case prend sa place
+    private void promote(int index) {
+        Occupants others = shared.get(index);
+        if (others == null) {
+            owners[index] = NO_OWNER;
+            return;
+        }
+        owners[index] = others.owners[others.size - 1];
+        ownerCounts[index] = (short) others.counts[others.size - 1];
+        if (--others.size == 0) {
+            shared.remove(index);
+        }
+    }
+
+    public int count(int cell) {
+        int index = slots.find(cell);
+        return index >= 0 ? counts[index] : 0;
+    }
+
+    // Segments du serpent "owner" dans la case
+    public int count(int cell, int owner) {
+        int index = slots.find(cell);
+        if (index < 0 || counts[index] == 0) {
+            return 0;
+        }
+        if (owners[index] == owner) {
+            return ownerCounts[index];
+        }
+        if (counts[index] == ownerCounts[index]) {
+            return 0; // Un seul occupant : cas de presque toutes les cases
+        }
+        Occupants others = shared.get(index);
+        return others != null ? others.count(owner) : 0;
+    }
+
+    public boolean isOccupied(int cell) {
+        return count(cell) > 0;
+    }
+
+    // Un serpent autre que "owner" présent dans la case, NO_OWNER s'il n'y en a pas
+    public int otherOwner(int cell, int owner) {
+        int index = slots.find(cell);
+        if (index < 0 || counts[index] == 0) {
+            return NO_OWNER;
+        }
+        if (owners[index] != owner) {
+            return owners[index];
+        }
+        Occupants others = shared.get(index);
+        return others != null ? others.owners[0] : NO_OWNER;
+    }
+
+    private void grow(int capacity) {
+        int oldCapacity = counts.length;
+        counts = Arrays.copyOf(counts, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        ownerCounts = Arrays.copyOf(ownerCounts, capacity);
+        Arrays.fill(owners, oldCapacity, capacity, NO_OWNER);
+    }
+
+    // Occupants secondaires d'une case et leur nombre de segments
+    private static final class Occupants {
+        int[] owners = new int[2];
+        int[] counts = new int[2];
+        int size;
+
+        void add(int owner) {
+            for (int i = 0; i < size; i++) {
+                if (owners[i] == owner) {
+                    counts[i]++;
+                    return;
+                }
+            }
+            if (size == owners.length) {
+                owners = Arrays.copyOf(owners, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            owners[size] = owner;
+            counts[size++] = 1;
+        }
+
+        // Faux si le serpent n'occupe pas la case
+        boolean remove(int owner) {
+            for (int i = 0; i < size; i++) {
+                if (owners[i] == owner) {
+                    if (--counts[i] == 0) {
+                        size--;
+                        owners[i] = owners[size];
+                        counts[i] = counts[size];
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int count(int owner) {
+            for (int i = 0; i < size; i++) {
+                if (owners[i] == owner) {
+                    return counts[i];
+                }
+            }
+            return 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
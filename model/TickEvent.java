@@ -0,0 +1,30 @@
+package model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR couvrant un appel complet à GameModel.update
+ */
+@Name("snake.Tick")
+@Label("Tick de jeu")
+@Category({ "Snake", "Boucle de jeu" })
+@Description("Durée totale d'un tick de GameModel.update")
+@StackTrace(false)
+class TickEvent extends Event {
+    @Label("Taille serpent 1")
+    int snake1Length;
+
+    @Label("Taille serpent 2")
+    int snake2Length;
+
+    @Label("Type joueur 1")
+    String player1Type;
+
+    @Label("Type joueur 2")
+    String player2Type;
+}
@@ -0,0 +1,9 @@
+package model;
+
+/**
+ * Écouteur des directions effectivement appliquées à chaque tick,
+ * utilisé pour enregistrer les parties (rejeu déterministe)
+ */
+public interface TickInputListener {
+    void onTickInput(int cols, int rows, Direction player1Direction, Direction player2Direction);
+}
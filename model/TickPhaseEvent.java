@@ -0,0 +1,33 @@
+package model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR pour une phase d'un tick : direction, move, notify, apple, collision
+ */
+@Name("snake.TickPhase")
+@Label("Phase de tick")
+@Category({ "Snake", "Boucle de jeu" })
+@Description("Durée d'une phase de GameModel.update")
+@StackTrace(false)
+class TickPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Taille serpent 1")
+    int snake1Length;
+
+    @Label("Taille serpent 2")
+    int snake2Length;
+
+    @Label("Type joueur 1")
+    String player1Type;
+
+    @Label("Type joueur 2")
+    String player2Type;
+}
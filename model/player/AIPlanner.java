@@ -0,0 +1,281 @@
+package model.player;
+
+import model.Direction;
+import model.Snake;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Planification des IA entre deux ticks : dès qu'un tick est validé, la
+ * décision suivante de chaque IA est calculée sur un thread dédié, pendant
+ * que la boucle de jeu attend son échéance. Le tick suivant récupère les
+ * décisions prêtes ; celles que le thread n'a pas encore commencées sont
+ * calculées sur place, celles en cours sont attendues.
+ *
+ * Entre deux ticks le plateau ne change pas : la décision anticipée est
+ * celle que l'IA aurait prise au début du tick suivant. Une exception levée
+ * pendant le calcul est relancée sur le thread de jeu, à la récupération.
+ */
+public class AIPlanner implements Runnable {
+    private static final int IDLE = 0;    // Aucune décision préparée
+    private static final int PENDING = 1; // En attente du thread de planification
+    private static final int RUNNING = 2; // Calcul en cours (thread de planification)
+    private static final int DONE = 3;    // Décision prête
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pending = lock.newCondition();
+    private final Condition done = lock.newCondition();
+    private boolean running;
+    private Thread thread;
+
+    // Une entrée par joueur, réutilisée d'un tick à l'autre
+    private int[] states = new int[0];
+    private AIPlayer[] players = new AIPlayer[0];
+    private Snake[] snakes = new Snake[0];
+    private Direction[] directions = new Direction[0];
+    private Throwable[] failures = new Throwable[0];
+    private int count;
+    private int nextPending; // Premier indice susceptible d'être en attente
+
+    // Plateau au moment de la planification
+    private int appleCell;
+    private int cols;
+    private int rows;
+
+    // Statistiques (lues sous verrou)
+    private long readyPlans;
+    private long inlinePlans;
+    private long waitedPlans;
+
+    public void start() {
+        lock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            thread = new Thread(this, "planification-ia");
+            thread.setDaemon(true);
+            thread.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Arrête le thread après le calcul en cours ; les décisions restantes se feront sur place
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            pending.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Après un tick : prépare la prochaine décision de chaque IA
+    public void schedule(List<Player> players, List<Snake> snakes, int appleCell, int cols, int rows) {
+        lock.lock();
+        try {
+            awaitRunning();
+            ensureCapacity(players.size());
+            count = players.size();
+            this.appleCell = appleCell;
+            this.cols = cols;
+            this.rows = rows;
+            boolean any = false;
+            for (int i = 0; i < count; i++) {
+                Player player = players.get(i);
+                if (player instanceof AIPlayer) {
+                    this.players[i] = (AIPlayer) player;
+                    this.snakes[i] = snakes.get(i);
+                    states[i] = PENDING;
+                    any = true;
+                } else {
+                    this.players[i] = null;
+                    this.snakes[i] = null;
+                    states[i] = IDLE;
+                }
+                directions[i] = null;
+                failures[i] = null;
+            }
+            nextPending = 0;
+            if (any) {
+                pending.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Oublie les décisions préparées (nouvelle partie, chargement) une fois le calcul en cours terminé
+    public void discard() {
+        lock.lock();
+        try {
+            awaitRunning();
+            for (int i = 0; i < count; i++) {
+                clear(i);
+            }
+            count = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Début du tick : décision de l'IA d'indice donné. Une décision préparée
+     * pour un autre plateau est abandonnée et recalculée sur place.
+     */
+    public Direction take(int index, AIPlayer player, Snake snake, int appleCell, int cols, int rows) {
+        lock.lock();
+        try {
+            if (index < count) {
+                // Une IA n'est jamais calculée par deux threads à la fois
+                if (states[index] == RUNNING) {
+                    waitedPlans++;
+                    while (states[index] == RUNNING) {
+                        done.awaitUninterruptibly();
+                    }
+                }
+                boolean planned = players[index] == player && snakes[index] == snake
+                        && this.appleCell == appleCell && this.cols == cols && this.rows == rows;
+                int state = states[index];
+                Throwable failure = failures[index];
+                clear(index); // Pas encore commencée : retirée au thread de planification
+                if (planned && state == DONE) {
+                    if (failure != null) {
+                        throw new IllegalStateException("Échec de la planification de l'IA " + index, failure);
+                    }
+                    readyPlans++;
+                    return directions[index];
+                }
+            }
+            inlinePlans++;
+        } finally {
+            lock.unlock();
+        }
+        return player.planDirection(snake, appleCell, cols, rows);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            int index;
+            AIPlayer player;
+            Snake snake;
+            int plannedApple;
+            int plannedCols;
+            int plannedRows;
+            lock.lock();
+            try {
+                index = findPending();
+                while (running && index < 0) {
+                    pending.awaitUninterruptibly();
+                    index = findPending();
+                }
+                if (!running) {
+                    return;
+                }
+                states[index] = RUNNING;
+                player = players[index];
+                snake = snakes[index];
+                plannedApple = appleCell;
+                plannedCols = cols;
+                plannedRows = rows;
+            } finally {
+                lock.unlock();
+            }
+
+            // Calcul hors verrou : le tick peut pendant ce temps prendre les autres décisions
+            Direction direction = null;
+            Throwable failure = null;
+            try {
+                direction = player.planDirection(snake, plannedApple, plannedCols, plannedRows);
+            } catch (RuntimeException | Error e) {
+                failure = e; // Transmise au tick qui récupère la décision
+            }
+
+            lock.lock();
+            try {
+                directions[index] = direction;
+                failures[index] = failure;
+                states[index] = DONE;
+                done.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Sous verrou
+    private int findPending() {
+        while (nextPending < count && states[nextPending] != PENDING) {
+            nextPending++;
+        }
+        return nextPending < count ? nextPending : -1;
+    }
+
+    // Sous verrou : aucune IA ne doit être calculée par deux threads à la fois
+    private void awaitRunning() {
+        for (int i = 0; i < count; i++) {
+            while (states[i] == RUNNING) {
+                done.awaitUninterruptibly();
+            }
+        }
+    }
+
+    private void clear(int index) {
+        states[index] = IDLE;
+        players[index] = null;
+        snakes[index] = null;
+        failures[index] = null;
+    }
+
+    private void ensureCapacity(int size) {
+        if (states.length < size) {
+            states = new int[size];
+            players = new AIPlayer[size];
+            snakes = new Snake[size];
+            directions = new Direction[size];
+            failures = new Throwable[size];
+        }
+    }
+
+    public long getReadyPlans() {
+        lock.lock();
+        try {
+            return readyPlans;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getInlinePlans() {
+        lock.lock();
+        try {
+            return inlinePlans;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getWaitedPlans() {
+        lock.lock();
+        try {
+            return waitedPlans;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getReport() {
+        lock.lock();
+        try {
+            return String.format("%d décisions prêtes, %d calculées pendant le tick, %d attendues",
+                    readyPlans, inlinePlans, waitedPlans);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,81 +1,138 @@
 package model.player;
 
+import model.Cell;
 import model.Snake;
-import util.Helper;
 import model.Direction;
-import java.awt.Point;
 import java.io.Serializable;
-import java.util.*;
+import java.util.Random;
 
 /**
  * Classe abstraite pour les joueurs IA
+ *
+ * Chaque décision est chronométrée (voir DecisionStats). Une décision qui
+ * dépasse le budget fait passer l'IA en mode économique : les décisions
+ * suivantes utilisent la stratégie de repli, moins coûteuse, avant de
+ * revenir à la stratégie normale. Les recherches interruptibles s'arrêtent
+ * avant la fin du budget, pour que la fin de la décision y tienne encore.
  */
 public abstract class AIPlayer implements Player, Serializable {
     private static final long serialVersionUID = 1L;
     protected Random random = new Random();
     protected int successRate; // Pourcentage de chance de faire le bon mouvement
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private transient Direction[] priorityDirs; // Ordre d'essai des directions, réutilisé
+    private static final long DEFAULT_DECISION_BUDGET = 1_000_000; // En nanosecondes
+    // Aucune coupure : la décision ne dépend plus de la vitesse de la machine
+    public static final long UNLIMITED_BUDGET = Long.MAX_VALUE;
+    private static final int RECOVERY_DECISIONS = 32; // Décisions en mode économique après un dépassement
+    private static final int SEARCH_BUDGET_SHARE = 4; // Dernier quart du budget laissé à la fin de la décision
+
+    private long decisionBudget = DEFAULT_DECISION_BUDGET;
+    private transient long decisionDeadline;
+    private transient int economyLeft;
+    private transient boolean searchCutoff; // Recherche arrêtée à l'échéance pendant la décision en cours
+    private transient DecisionStats decisionStats;
 
     public AIPlayer(int successRate) {
         this.successRate = successRate;
     }
 
+    // Fixe la graine du générateur pour des décisions reproductibles
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
     @Override
-    public void updateDirection(Snake snake, Point apple, int boardWidth, int boardHeight) {
+    public void updateDirection(Snake snake, int appleCell, int cols, int rows) {
+        applyDirection(snake, planDirection(snake, appleCell, cols, rows));
+    }
+
+    // Décision seule, sans modifier le serpent : peut être calculée à l'avance (voir AIPlanner)
+    public Direction planDirection(Snake snake, int appleCell, int cols, int rows) {
+        long budget = getDecisionBudget();
+        long start = System.nanoTime();
+        decisionDeadline = start + (budget - budget / SEARCH_BUDGET_SHARE);
+        boolean economy = economyLeft > 0;
+        searchCutoff = false;
+
+        Direction direction = null;
         if (random.nextInt(100) < successRate) {
-            Direction bestDir = calculateBestDirection(snake, apple, boardWidth, boardHeight);
-            if (bestDir != null && snake.canChangeDirection(bestDir)) {
-                snake.setDirection(bestDir);
-            }
+            direction = economy ? calculateFallbackDirection(snake, appleCell, cols, rows)
+                    : calculateBestDirection(snake, appleCell, cols, rows);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        boolean overrun = elapsed > budget;
+        // Coupure prévue de la recherche : dépassement compté, sans mode économique
+        if (overrun && !searchCutoff) {
+            economyLeft = RECOVERY_DECISIONS;
+        } else if (economy) {
+            economyLeft--;
+        }
+        getDecisionStats().record(elapsed, overrun, economy);
+        return direction;
+    }
+
+    public void applyDirection(Snake snake, Direction direction) {
+        if (direction != null && snake.canChangeDirection(direction)) {
+            snake.setDirection(direction);
         }
     }
 
-    protected Direction calculateBestDirection(Snake snake, Point apple, int boardWidth, int boardHeight) {
-        Point head = snake.getHead();
+    protected Direction calculateBestDirection(Snake snake, int appleCell, int cols, int rows) {
+        return greedyDirection(snake, appleCell, cols, rows);
+    }
 
-        // Calculer la direction optimale vers la pomme
-        List<Direction> priorityDirs = new ArrayList<>();
+    // Stratégie de repli après un dépassement de budget : le coup glouton par défaut
+    protected Direction calculateFallbackDirection(Snake snake, int appleCell, int cols, int rows) {
+        return greedyDirection(snake, appleCell, cols, rows);
+    }
 
-        int dx = apple.x - head.x;
-        int dy = apple.y - head.y;
+    // Direction sûre la plus proche de la pomme, sans recherche
+    protected final Direction greedyDirection(Snake snake, int appleCell, int cols, int rows) {
+        int head = snake.getHeadCell();
+
+        // Calculer la direction optimale vers la pomme (tableau réutilisé d'un tick à l'autre)
+        if (priorityDirs == null) {
+            priorityDirs = new Direction[DIRECTIONS.length];
+        }
+        int count = 0;
+
+        int dx = Cell.col(appleCell) - Cell.col(head);
+        int dy = Cell.row(appleCell) - Cell.row(head);
 
         // Prioriser les directions selon la distance à la pomme
         if (Math.abs(dx) > Math.abs(dy)) {
-            if (dx > 0)
-                priorityDirs.add(Direction.RIGHT);
-            else
-                priorityDirs.add(Direction.LEFT);
+            priorityDirs[count++] = dx > 0 ? Direction.RIGHT : Direction.LEFT;
             if (dy > 0)
-                priorityDirs.add(Direction.DOWN);
+                priorityDirs[count++] = Direction.DOWN;
             else if (dy < 0)
-                priorityDirs.add(Direction.UP);
+                priorityDirs[count++] = Direction.UP;
         } else {
-            if (dy > 0)
-                priorityDirs.add(Direction.DOWN);
-            else
-                priorityDirs.add(Direction.UP);
+            priorityDirs[count++] = dy > 0 ? Direction.DOWN : Direction.UP;
             if (dx > 0)
-                priorityDirs.add(Direction.RIGHT);
+                priorityDirs[count++] = Direction.RIGHT;
             else if (dx < 0)
-                priorityDirs.add(Direction.LEFT);
+                priorityDirs[count++] = Direction.LEFT;
         }
 
         // Ajouter les autres directions
-        for (Direction dir : Direction.values()) {
-            if (!priorityDirs.contains(dir)) {
-                priorityDirs.add(dir);
+        for (Direction dir : DIRECTIONS) {
+            if (priorityDirs[0] != dir && (count < 2 || priorityDirs[1] != dir)) {
+                priorityDirs[count++] = dir;
             }
         }
 
         // Trouver la première direction valide
         for (Direction dir : priorityDirs) {
-            if (snake.canChangeDirection(dir) && isSafeDirection(snake, dir, boardWidth, boardHeight)) {
+            if (snake.canChangeDirection(dir) && isSafeDirection(snake, dir, cols, rows)) {
                 return dir;
             }
         }
 
         // Si aucune direction sûre, essayer de survivre
-        for (Direction dir : Direction.values()) {
-            if (snake.canChangeDirection(dir) && !willHitWall(snake, dir, boardWidth, boardHeight)) {
+        for (Direction dir : DIRECTIONS) {
+            if (snake.canChangeDirection(dir) && !willHitWall(snake, dir, cols, rows)) {
                 return dir;
             }
         }
@@ -83,18 +140,51 @@ public abstract class AIPlayer implements Player, Serializable {
         return null;
     }
 
-    protected boolean isSafeDirection(Snake snake, Direction dir, int boardWidth, int boardHeight) {
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
-        Point nextPos = snake.getNextPosition(dir, unitSize);
-        return !snake.wouldCollideWithSelf(nextPos) &&
-                !willHitWall(snake, dir, boardWidth, boardHeight);
+    // Échéance des recherches de la décision en cours (System.nanoTime), avant la fin du budget
+    protected long getDecisionDeadline() {
+        return decisionDeadline;
     }
 
-    protected boolean willHitWall(Snake snake, Direction dir, int boardWidth, int boardHeight) {
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
-        Point nextPos = snake.getNextPosition(dir, unitSize);
-        return nextPos.x < 0 || nextPos.x >= boardWidth ||
-                nextPos.y < 0 || nextPos.y >= boardHeight;
+    // Signale une recherche arrêtée à l'échéance : la décision ne passe pas en mode économique
+    protected void reportSearchCutoff() {
+        searchCutoff = true;
+    }
+
+    public long getDecisionBudget() {
+        // Les anciennes sauvegardes n'ont pas ce champ : valeur par défaut
+        return decisionBudget > 0 ? decisionBudget : DEFAULT_DECISION_BUDGET;
+    }
+
+    // Budget de temps d'une décision, en nanosecondes
+    public void setDecisionBudget(long decisionBudget) {
+        if (decisionBudget <= 0) {
+            throw new IllegalArgumentException("Budget de décision invalide: " + decisionBudget);
+        }
+        this.decisionBudget = decisionBudget;
+    }
+
+    // Décisions de cette IA qui ont dépassé le budget
+    public long getOverrunCount() {
+        return getDecisionStats().getOverruns();
+    }
+
+    // Temps de décision de cette IA ; à lire hors décision (sous le verrou du modèle)
+    public DecisionStats getDecisionStats() {
+        if (decisionStats == null) {
+            decisionStats = new DecisionStats(getType());
+        }
+        return decisionStats;
+    }
+
+    protected boolean isSafeDirection(Snake snake, Direction dir, int cols, int rows) {
+        return !snake.isCellBlocked(snake.getNextCell(dir)) &&
+                !willHitWall(snake, dir, cols, rows);
+    }
+
+    protected boolean willHitWall(Snake snake, Direction dir, int cols, int rows) {
+        int next = snake.getNextCell(dir);
+        return Cell.col(next) < 0 || Cell.col(next) >= cols ||
+                Cell.row(next) < 0 || Cell.row(next) >= rows;
     }
 }
 
@@ -139,108 +229,3 @@ class MediumAI extends AIPlayer {
         return PlayerType.AI_MEDIUM;
     }
 }
-
-/**
- * IA Difficile - 90% de réussite avec stratégie avancée
- */
-class HardAI extends AIPlayer {
-    private static final long serialVersionUID = 1L;
-
-    public HardAI() {
-        super(100);
-    }
-
-    @Override
-    protected Direction calculateBestDirection(Snake snake, Point apple, int boardWidth, int boardHeight) {
-        // Version améliorée avec pathfinding basique
-        Direction bestDir = findPathToApple(snake, apple, boardWidth, boardHeight);
-        if (bestDir != null) {
-            return bestDir;
-        }
-        return super.calculateBestDirection(snake, apple, boardWidth, boardHeight);
-    }
-
-    private Direction findPathToApple(Snake snake, Point apple, int boardWidth, int boardHeight) {
-        // Simple BFS pour trouver le chemin le plus court
-        Queue<PathNode> queue = new LinkedList<>();
-        Set<Point> visited = new HashSet<>();
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
-
-        for (Direction dir : Direction.values()) {
-            if (snake.canChangeDirection(dir) && isSafeDirection(snake, dir, boardWidth, boardHeight)) {
-                Point nextPos = snake.getNextPosition(dir, unitSize);
-                queue.offer(new PathNode(nextPos, dir));
-                visited.add(nextPos);
-            }
-        }
-
-        while (!queue.isEmpty()) {
-            PathNode node = queue.poll();
-
-            if (node.position.equals(apple)) {
-                return node.firstDirection;
-            }
-
-            // Explorer les voisins (limité en profondeur pour performance)
-            if (node.depth < 500) {
-                for (Direction dir : Direction.values()) {
-                    Point nextPos = getNextPosition(node.position, dir, unitSize);
-                    if (!visited.contains(nextPos) &&
-                            nextPos.x >= 0 && nextPos.x < boardWidth &&
-                            nextPos.y >= 0 && nextPos.y < boardHeight &&
-                            !snake.occupies(nextPos.x, nextPos.y)) {
-                        queue.offer(new PathNode(nextPos, node.firstDirection, node.depth + 1));
-                        visited.add(nextPos);
-                    }
-                }
-            }
-        }
-
-        return null;
-    }
-
-    private Point getNextPosition(Point current, Direction dir, int unitSize) {
-        Point next = new Point(current.x, current.y);
-        switch (dir) {
-            case UP:
-                next.y -= unitSize;
-                break;
-            case DOWN:
-                next.y += unitSize;
-                break;
-            case LEFT:
-                next.x -= unitSize;
-                break;
-            case RIGHT:
-                next.x += unitSize;
-                break;
-        }
-        return next;
-    }
-
-    private class PathNode {
-        Point position;
-        Direction firstDirection;
-        int depth;
-
-        PathNode(Point position, Direction firstDirection, int depth) {
-            this.position = position;
-            this.firstDirection = firstDirection;
-            this.depth = depth;
-        }
-
-        PathNode(Point position, Direction firstDirection) {
-            this(position, firstDirection, 0);
-        }
-    }
-
-    @Override
-    public String getName() {
-        return "IA Difficile";
-    }
-
-    @Override
-    public PlayerType getType() {
-        return PlayerType.AI_HARD;
-    }
-}
\ No newline at end of file
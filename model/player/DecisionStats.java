@@ -0,0 +1,145 @@
+package model.player;
+
+/**
+ * Temps de décision des IA : nombre de décisions, dépassements du budget,
+ * décisions prises en mode économique (voir AIPlayer) et histogramme pour
+ * les centiles. Chaque IA tient ses propres statistiques ; on les fusionne
+ * par type de joueur pour les rapports (partie, lot de simulations).
+ *
+ * L'histogramme est logarithmique (8 sous-classes par puissance de 2,
+ * soit 12,5 % de précision). Pas de synchronisation : une IA n'est jamais
+ * calculée par deux threads à la fois (voir AIPlanner).
+ */
+public class DecisionStats {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final Player.PlayerType type;
+    private long[] buckets; // Alloué au premier enregistrement
+    private long decisions;
+    private long overruns;
+    private long fallbacks;
+    private long totalNanos;
+
+    public DecisionStats(Player.PlayerType type) {
+        this.type = type;
+    }
+
+    void record(long nanos, boolean overrun, boolean fallback) {
+        nanos = Math.max(0, nanos);
+        if (buckets == null) {
+            buckets = new long[BUCKETS];
+        }
+        buckets[bucket(nanos)]++;
+        decisions++;
+        totalNanos += nanos;
+        if (overrun) {
+            overruns++;
+        }
+        if (fallback) {
+            fallbacks++;
+        }
+    }
+
+    public void combine(DecisionStats other) {
+        if (other.buckets != null) {
+            if (buckets == null) {
+                buckets = new long[BUCKETS];
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] += other.buckets[i];
+            }
+        }
+        decisions += other.decisions;
+        overruns += other.overruns;
+        fallbacks += other.fallbacks;
+        totalNanos += other.totalNanos;
+    }
+
+    // Classe de l'histogramme : exposant puis 3 bits de mantisse
+    private static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int mantissa = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    // Borne supérieure des durées rangées dans la classe
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long mantissa = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    // Centile (0 à 100) des temps de décision, en nanosecondes ; 0 sans décision
+    public long getPercentile(double percentile) {
+        if (decisions == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(decisions * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    public Player.PlayerType getType() {
+        return type;
+    }
+
+    public long getDecisions() {
+        return decisions;
+    }
+
+    public long getOverruns() {
+        return overruns;
+    }
+
+    // Décisions prises avec la stratégie de repli après un dépassement
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public double getMeanNanos() {
+        return decisions == 0 ? 0 : (double) totalNanos / decisions;
+    }
+
+    public void reset() {
+        buckets = null;
+        decisions = 0;
+        overruns = 0;
+        fallbacks = 0;
+        totalNanos = 0;
+    }
+
+    // Une ligne par statistique non vide
+    public static String getReport(Iterable<DecisionStats> stats) {
+        StringBuilder report = new StringBuilder();
+        for (DecisionStats entry : stats) {
+            if (entry.getDecisions() > 0) {
+                if (report.length() > 0) {
+                    report.append(System.lineSeparator());
+                }
+                report.append(entry.getReport());
+            }
+        }
+        return report.toString();
+    }
+
+    public String getReport() {
+        return String.format("%s: %d décisions, p50 %.1f µs, p99 %.1f µs, p99.9 %.1f µs, "
+                + "%d dépassements, %d en mode économique",
+                type, decisions, getPercentile(50) / 1e3, getPercentile(99) / 1e3,
+                getPercentile(99.9) / 1e3, overruns, fallbacks);
+    }
+}
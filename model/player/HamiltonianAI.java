@@ -0,0 +1,138 @@
+package model.player;
+
+import model.Cell;
+import model.Direction;
+import model.Snake;
+
+/**
+ * IA Hamiltonienne - référence quasi parfaite pour un coût par tick constant
+ *
+ * La zone jouable (sous la barre de score, au-dessus de la dernière ligne)
+ * est parcourue par un cycle hamiltonien : en le suivant, le serpent ne se
+ * mord jamais. Le rang d'une case sur le cycle se calcule directement à
+ * partir de ses coordonnées, sans table, même sur un très grand plateau.
+ *
+ * Raccourcis : le serpent peut sauter en avant sur le cycle vers la pomme
+ * tant qu'il ne dépasse ni la pomme ni sa propre queue. Il faut au moins
+ * une dimension paire ; sinon aucun cycle n'existe et l'IA joue comme
+ * AIPlayer.
+ *
+ * Référence pour une partie seule : face à d'autres serpents, qui occupent
+ * les cases du cycle, la garantie ne tient plus et les raccourcis limités
+ * la laissent loin derrière HardAI. Les duels et les arènes à plusieurs
+ * serpents la refusent (voir PlayerType.isSoloOnly).
+ */
+public class HamiltonianAI extends AIPlayer {
+    private static final long serialVersionUID = 1L;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int TOP = 2; // Première ligne jouable
+    private static final int SHORTCUT_MARGIN = 4; // Cases gardées devant la queue (croissance)
+    private static final int MAX_SHORTCUT_FILL = 2; // Plus de raccourcis au-delà de 1/2 du cycle
+
+    // Cycle de la dernière décision : recalculé seulement si le plateau change
+    private transient int cycleCols;
+    private transient int cycleRows;
+    private transient int width;
+    private transient int height;
+    private transient boolean transposed;
+    private transient boolean hasCycle;
+
+    public HamiltonianAI() {
+        super(100);
+    }
+
+    @Override
+    protected Direction calculateBestDirection(Snake snake, int appleCell, int cols, int rows) {
+        prepareCycle(cols, rows);
+        if (!hasCycle) {
+            return super.calculateBestDirection(snake, appleCell, cols, rows);
+        }
+
+        int size = width * height;
+        int head = snake.getCell(0);
+        int headRank = rank(head);
+        if (headRank < 0) {
+            return super.calculateBestDirection(snake, appleCell, cols, rows);
+        }
+        int tailRank = rank(snake.getCell(snake.getLength() - 1));
+        int tailDistance = tailRank >= 0 ? distance(headRank, tailRank, size) : 0;
+        int appleRank = rank(appleCell);
+        int appleDistance = appleRank >= 0 ? distance(headRank, appleRank, size) : size;
+
+        // Sans raccourci, seule la case suivante du cycle est permise
+        int limit = snake.getLength() * MAX_SHORTCUT_FILL < size ? tailDistance - SHORTCUT_MARGIN : 1;
+
+        Direction best = null;
+        int bestDistance = 0;
+        for (Direction dir : DIRECTIONS) {
+            int next = snake.getNextCell(dir);
+            int nextRank = rank(next);
+            if (nextRank < 0 || !snake.canChangeDirection(dir) || snake.isCellBlocked(next)) {
+                continue;
+            }
+            int nextDistance = distance(headRank, nextRank, size);
+            boolean allowed = nextDistance == 1 || (nextDistance < limit && nextDistance <= appleDistance);
+            if (allowed && nextDistance > bestDistance) {
+                best = dir;
+                bestDistance = nextDistance;
+            }
+        }
+        return best != null ? best : super.calculateBestDirection(snake, appleCell, cols, rows);
+    }
+
+    // Coût constant par décision : le repli glouton serait moins sûr sans être moins cher
+    @Override
+    protected Direction calculateFallbackDirection(Snake snake, int appleCell, int cols, int rows) {
+        return calculateBestDirection(snake, appleCell, cols, rows);
+    }
+
+    // Dimensions du cycle pour ce plateau : on fait courir les colonnes sur la dimension paire
+    private void prepareCycle(int cols, int rows) {
+        if (cols == cycleCols && rows == cycleRows) {
+            return;
+        }
+        cycleCols = cols;
+        cycleRows = rows;
+        int playableRows = rows - TOP - 1;
+        transposed = cols % 2 != 0;
+        width = transposed ? playableRows : cols;
+        height = transposed ? cols : playableRows;
+        hasCycle = width >= 2 && height >= 2 && width % 2 == 0;
+    }
+
+    // Rang de la case sur le cycle, -1 hors de la zone jouable
+    private int rank(int cell) {
+        int col = Cell.col(cell);
+        int row = Cell.row(cell) - TOP;
+        int x = transposed ? row : col;
+        int y = transposed ? col : row;
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        // Descente par la colonne 0, serpentin sur les colonnes suivantes, retour par la ligne 0
+        if (x == 0) {
+            return y;
+        }
+        if (y == 0) {
+            return width * height - x;
+        }
+        int base = height + (x - 1) * (height - 1);
+        return base + (x % 2 != 0 ? height - 1 - y : y - 1);
+    }
+
+    // Nombre de pas vers l'avant sur le cycle
+    private static int distance(int from, int to, int size) {
+        int distance = to - from;
+        return distance < 0 ? distance + size : distance;
+    }
+
+    @Override
+    public String getName() {
+        return "IA Hamiltonienne";
+    }
+
+    @Override
+    public PlayerType getType() {
+        return PlayerType.AI_HAMILTONIAN;
+    }
+}
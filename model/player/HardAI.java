@@ -0,0 +1,497 @@
+package model.player;
+
+import model.Cell;
+import model.Direction;
+import model.Snake;
+import java.util.Arrays;
+
+/**
+ * IA Difficile - 90% de réussite avec stratégie avancée
+ *
+ * Recherche A* vers la pomme, interrompue au bout du budget de temps de la
+ * décision : on suit alors le début du meilleur chemin partiel trouvé. La
+ * recherche se limite à une fenêtre autour de la tête ; une pomme plus loin
+ * est visée par la case de la fenêtre la plus proche. Un remplissage écarte
+ * les coups après lesquels la tête ne peut plus rejoindre la queue : le
+ * serpent qui suit sa queue ne s'enferme jamais.
+ *
+ * Le chemin trouvé est conservé et suivi tant qu'il reste valide : on ne
+ * recalcule que si la pomme a changé, si le chemin est bloqué ou s'il a
+ * dépassé l'âge maximal configuré.
+ */
+public class HardAI extends AIPlayer {
+    private static final long serialVersionUID = 1L;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int DEFAULT_MAX_PATH_AGE = 40; // En ticks
+    // Fenêtre de recherche autour de la tête : la mémoire ne dépend pas de la taille du plateau
+    private static final int SEARCH_WINDOW = 128;
+    private static final int NO_TARGET = -1; // Remplissage sans case cible
+    private static final int TARGET_REACHED = Integer.MAX_VALUE;
+    private static final int CLOCK_INTERVAL = 32; // Expansions entre deux lectures de l'horloge (puissance de 2)
+    // Entrées du tas : f (32 bits), h (12 bits) puis indice de case (20 bits)
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+    private int maxPathAge = DEFAULT_MAX_PATH_AGE;
+
+    // Tas A*, coûts, parents et marquage des cases, réutilisés d'un tick à l'autre
+    private transient long[] heap;
+    private transient int heapSize;
+    private transient int[] costs;
+    private transient int[] parents;
+    private transient int[] visited;
+    private transient int[] closed;
+    private transient int generation;
+
+    // File et marquage du remplissage de zone
+    private transient int[] queue;
+    private transient int[] filled;
+    private transient int fillGeneration;
+
+    // Fenêtre de la décision courante, en cases du plateau
+    private transient int windowCol;
+    private transient int windowRow;
+    private transient int windowWidth;
+    private transient int windowHeight;
+
+    // Chemin planifié (cases compactées) et position de suivi
+    private transient int[] path;
+    private transient int pathLength;
+    private transient int pathCursor;
+    private transient int pathStart;
+    private transient int pathApple;
+    private transient int pathAge;
+    private transient int pathCols;
+    private transient int pathRows;
+
+    // Statistiques de réutilisation du chemin et de la recherche
+    private transient long replanCount;
+    private transient long reuseCount;
+    private transient long budgetCutoffCount;
+    private transient long expandedCount;
+    private transient long trapAvoidedCount;
+
+    public HardAI() {
+        super(100);
+    }
+
+    @Override
+    protected Direction calculateBestDirection(Snake snake, int appleCell, int cols, int rows) {
+        long deadline = getDecisionDeadline(); // Laisse le temps au remplissage et au chemin
+        setWindow(snake.getCell(0), cols, rows);
+
+        Direction plannedDir = followPath(snake, appleCell, cols, rows);
+        if (plannedDir != null) {
+            reuseCount++;
+            return plannedDir;
+        }
+
+        replanCount++;
+        Direction bestDir = findPathToApple(snake, appleCell, cols, rows, deadline);
+        if (bestDir != null && hasRoom(snake, bestDir, cols, rows)) {
+            return bestDir;
+        }
+        pathLength = 0;
+
+        // Pas de chemin sûr : le coup glouton s'il est sûr, sinon un coup qui garde la queue
+        // atteignable, sinon la plus grande zone
+        return safeGreedyDirection(snake, appleCell, cols, rows);
+    }
+
+    // Mode économique : pas de recherche A*, seulement le coup glouton vérifié par remplissage
+    @Override
+    protected Direction calculateFallbackDirection(Snake snake, int appleCell, int cols, int rows) {
+        setWindow(snake.getCell(0), cols, rows);
+        pathLength = 0;
+        return safeGreedyDirection(snake, appleCell, cols, rows);
+    }
+
+    private Direction safeGreedyDirection(Snake snake, int appleCell, int cols, int rows) {
+        Direction greedyDir = greedyDirection(snake, appleCell, cols, rows);
+        if (greedyDir != null && hasRoom(snake, greedyDir, cols, rows)) {
+            return greedyDir;
+        }
+        for (Direction dir : DIRECTIONS) {
+            if (dir != greedyDir && snake.canChangeDirection(dir) && hasRoom(snake, dir, cols, rows)) {
+                trapAvoidedCount++;
+                return dir;
+            }
+        }
+        Direction roomiestDir = findRoomiestDirection(snake, cols, rows);
+        if (roomiestDir != null && roomiestDir != greedyDir) {
+            trapAvoidedCount++;
+            return roomiestDir;
+        }
+        return greedyDir;
+    }
+
+    // Renvoie la prochaine direction du chemin planifié, ou null s'il faut replanifier
+    private Direction followPath(Snake snake, int appleCell, int cols, int rows) {
+        if (path == null || pathCursor >= pathLength || pathAge >= getMaxPathAge()
+                || appleCell != pathApple || cols != pathCols || rows != pathRows) {
+            return null;
+        }
+
+        // Le serpent doit être là où le chemin l'attend (direction bien appliquée)
+        int head = snake.getCell(0);
+        int expectedHead = pathCursor == 0 ? pathStart : path[pathCursor - 1];
+        if (head != expectedHead) {
+            return null;
+        }
+
+        int next = path[pathCursor];
+        if (snake.isCellBlocked(next)) {
+            return null;
+        }
+
+        Direction dir = directionTo(head, next);
+        if (dir == null || !snake.canChangeDirection(dir) || !hasRoom(snake, dir, cols, rows)) {
+            return null;
+        }
+        pathCursor++;
+        pathAge++;
+        return dir;
+    }
+
+    // Fenêtre centrée sur la tête, bornée par le plateau
+    private void setWindow(int head, int cols, int rows) {
+        windowWidth = Math.min(cols, SEARCH_WINDOW);
+        windowHeight = Math.min(rows, SEARCH_WINDOW);
+        windowCol = Math.max(0, Math.min(Cell.col(head) - windowWidth / 2, cols - windowWidth));
+        windowRow = Math.max(0, Math.min(Cell.row(head) - windowHeight / 2, rows - windowHeight));
+        ensureSearchCapacity(windowWidth * windowHeight);
+    }
+
+    private Direction findPathToApple(Snake snake, int appleCell, int cols, int rows, long deadline) {
+        // A* sur les indices de case de la fenêtre, sans allocation : tas et marquage réutilisés
+        int head = snake.getCell(0);
+        int width = windowWidth;
+        pathLength = 0;
+
+        // Pomme hors de la fenêtre (grand plateau) : on vise la case de la fenêtre la plus
+        // proche, le chemin est repris depuis une nouvelle fenêtre une fois au bord
+        int appleCol = Math.max(0, Math.min(Cell.col(appleCell) - windowCol, width - 1));
+        int appleRow = Math.max(0, Math.min(Cell.row(appleCell) - windowRow, windowHeight - 1));
+        int target = appleRow * width + appleCol;
+
+        int stamp = nextGeneration();
+        heapSize = 0;
+
+        for (Direction dir : DIRECTIONS) {
+            int col = Cell.col(head) + dir.getDx() - windowCol;
+            int row = Cell.row(head) + dir.getDy() - windowRow;
+            if (snake.canChangeDirection(dir) && isFree(snake, col, row, cols, rows)) {
+                int index = row * width + col;
+                if (visited[index] != stamp) {
+                    visited[index] = stamp;
+                    costs[index] = 1;
+                    parents[index] = -1;
+                    int h = distance(col, row, appleCol, appleRow);
+                    push(1 + h, h, index);
+                }
+            }
+        }
+
+        // Meilleur noeud développé : le plus proche de la pomme, repli si le budget s'épuise
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int expanded = 0;
+        while (heapSize > 0) {
+            long entry = pop();
+            int index = (int) entry & INDEX_MASK;
+            if (closed[index] == stamp) {
+                continue; // Entrée périmée : un coût plus faible a déjà été développé
+            }
+            closed[index] = stamp;
+            expandedCount++;
+
+            if (index == target) {
+                return storePath(head, target, appleCell, cols, rows);
+            }
+
+            int h = (int) (entry >>> INDEX_BITS) & 0xFFF;
+            if (h < bestDistance) {
+                bestDistance = h;
+                best = index;
+            }
+            if ((++expanded & (CLOCK_INTERVAL - 1)) == 0 && System.nanoTime() - deadline > 0) {
+                budgetCutoffCount++;
+                reportSearchCutoff();
+                return firstStep(head, best);
+            }
+
+            int col = index % width;
+            int row = index / width;
+            int cost = costs[index] + 1;
+            for (Direction dir : DIRECTIONS) {
+                int nextCol = col + dir.getDx();
+                int nextRow = row + dir.getDy();
+                if (!isFree(snake, nextCol, nextRow, cols, rows)) {
+                    continue;
+                }
+                int next = nextRow * width + nextCol;
+                if (closed[next] != stamp && (visited[next] != stamp || cost < costs[next])) {
+                    visited[next] = stamp;
+                    costs[next] = cost;
+                    parents[next] = index;
+                    int nextH = distance(nextCol, nextRow, appleCol, appleRow);
+                    push(cost + nextH, nextH, next);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    // Case de la fenêtre praticable : ni mur, ni serpent
+    private boolean isFree(Snake snake, int col, int row, int cols, int rows) {
+        if (col < 0 || col >= windowWidth || row < 0 || row >= windowHeight) {
+            return false;
+        }
+        int cell = Cell.pack(col + windowCol, row + windowRow);
+        return !Snake.isWall(cell, cols, rows) && !snake.isCellBlocked(cell);
+    }
+
+    private static int distance(int col, int row, int targetCol, int targetRow) {
+        return Math.abs(targetCol - col) + Math.abs(targetRow - row);
+    }
+
+    // Vrai si, après le coup, la tête peut encore rejoindre la queue (qui libère sa case) :
+    // le serpent pourra toujours la suivre et ne s'enferme pas. Queue hors de la fenêtre :
+    // la case d'arrivée doit ouvrir sur au moins autant de cases que le serpent en occupe
+    private boolean hasRoom(Snake snake, Direction dir, int cols, int rows) {
+        int length = snake.getLength();
+        int tail = snake.getCell(length - 1);
+        if (snake.getNextCell(dir) == tail) {
+            return !snake.isGrowing() && length > 2; // La tête prend la case que la queue quitte
+        }
+        int tailCol = Cell.col(tail) - windowCol;
+        int tailRow = Cell.row(tail) - windowRow;
+        if (tailCol < 0 || tailCol >= windowWidth || tailRow < 0 || tailRow >= windowHeight) {
+            return reachableArea(snake, snake.getNextCell(dir), cols, rows, length, NO_TARGET) >= length;
+        }
+        int target = tailRow * windowWidth + tailCol;
+        return reachableArea(snake, snake.getNextCell(dir), cols, rows, Integer.MAX_VALUE, target)
+                == TARGET_REACHED;
+    }
+
+    // Direction menant à la plus grande zone libre ; null si toutes sont bloquées
+    private Direction findRoomiestDirection(Snake snake, int cols, int rows) {
+        Direction best = null;
+        int bestArea = 0;
+        int length = snake.getLength();
+        for (Direction dir : DIRECTIONS) {
+            if (!snake.canChangeDirection(dir)) {
+                continue;
+            }
+            int area = reachableArea(snake, snake.getNextCell(dir), cols, rows, length, NO_TARGET);
+            if (area > bestArea) {
+                best = dir;
+                bestArea = area;
+            }
+        }
+        return best;
+    }
+
+    // Remplissage en largeur depuis la case, arrêté dès que la limite est atteinte ou que la
+    // zone touche la case cible (indice de la fenêtre) : TARGET_REACHED dans ce cas
+    private int reachableArea(Snake snake, int cell, int cols, int rows, int limit, int target) {
+        int width = windowWidth;
+        int col = Cell.col(cell) - windowCol;
+        int row = Cell.row(cell) - windowRow;
+        if (!isFree(snake, col, row, cols, rows)) {
+            return 0;
+        }
+
+        int stamp = nextFillGeneration();
+        int start = row * width + col;
+        filled[start] = stamp;
+        queue[0] = start;
+        int queueHead = 0;
+        int queueTail = 1;
+        while (queueHead < queueTail && queueTail < limit) {
+            int index = queue[queueHead++];
+            int indexCol = index % width;
+            int indexRow = index / width;
+            for (Direction dir : DIRECTIONS) {
+                int nextCol = indexCol + dir.getDx();
+                int nextRow = indexRow + dir.getDy();
+                if (nextRow * width + nextCol == target && nextCol >= 0 && nextCol < width) {
+                    return TARGET_REACHED;
+                }
+                if (isFree(snake, nextCol, nextRow, cols, rows)) {
+                    int next = nextRow * width + nextCol;
+                    if (filled[next] != stamp) {
+                        filled[next] = stamp;
+                        queue[queueTail++] = next;
+                    }
+                }
+            }
+        }
+        return queueTail;
+    }
+
+    // Première direction du chemin menant au noeud, sans le conserver (chemin partiel)
+    private Direction firstStep(int head, int index) {
+        if (index < 0) {
+            return null;
+        }
+        while (parents[index] != -1) {
+            index = parents[index];
+        }
+        return directionTo(head, Cell.pack(index % windowWidth + windowCol, index / windowWidth + windowRow));
+    }
+
+    // Reconstruit le chemin depuis la cible en remontant les parents
+    private Direction storePath(int head, int target, int appleCell, int cols, int rows) {
+        int length = 0;
+        for (int index = target; index != -1; index = parents[index]) {
+            length++;
+        }
+        int position = length;
+        for (int index = target; index != -1; index = parents[index]) {
+            path[--position] = Cell.pack(index % windowWidth + windowCol, index / windowWidth + windowRow);
+        }
+
+        pathLength = length;
+        pathCursor = 1;
+        pathStart = head;
+        pathApple = appleCell;
+        pathAge = 0;
+        pathCols = cols;
+        pathRows = rows;
+        return directionTo(head, path[0]);
+    }
+
+    // Tas binaire minimal : f = coût + h d'abord, puis h (on privilégie les noeuds proches de la pomme)
+    private void push(int f, int h, int index) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        long entry = (long) f << 32 | (long) h << INDEX_BITS | index;
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        int half = heapSize >> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+
+    private Direction directionTo(int from, int to) {
+        for (Direction dir : DIRECTIONS) {
+            if (Cell.move(from, dir) == to) {
+                return dir;
+            }
+        }
+        return null;
+    }
+
+    // Les tableaux de recherche sont alloués une fois par taille de fenêtre
+    private void ensureSearchCapacity(int cellCount) {
+        if (costs == null || costs.length < cellCount) {
+            heap = new long[cellCount];
+            costs = new int[cellCount];
+            parents = new int[cellCount];
+            visited = new int[cellCount];
+            closed = new int[cellCount];
+            queue = new int[cellCount];
+            filled = new int[cellCount];
+            path = new int[cellCount];
+            generation = 0;
+            fillGeneration = 0;
+        }
+    }
+
+    // Chaque recherche utilise un nouveau marqueur : inutile d'effacer "visited" et "closed"
+    private int nextGeneration() {
+        if (++generation == 0) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+        return generation;
+    }
+
+    private int nextFillGeneration() {
+        if (++fillGeneration == 0) {
+            Arrays.fill(filled, 0);
+            fillGeneration = 1;
+        }
+        return fillGeneration;
+    }
+
+    public int getMaxPathAge() {
+        // Les anciennes sauvegardes n'ont pas ce champ : valeur par défaut
+        return maxPathAge > 0 ? maxPathAge : DEFAULT_MAX_PATH_AGE;
+    }
+
+    public void setMaxPathAge(int maxPathAge) {
+        if (maxPathAge <= 0) {
+            throw new IllegalArgumentException("Âge maximal de chemin invalide: " + maxPathAge);
+        }
+        this.maxPathAge = maxPathAge;
+    }
+
+    public long getReplanCount() {
+        return replanCount;
+    }
+
+    public long getReuseCount() {
+        return reuseCount;
+    }
+
+    // Recherches interrompues par le budget de temps
+    public long getBudgetCutoffCount() {
+        return budgetCutoffCount;
+    }
+
+    // Noeuds développés par l'A* depuis la création
+    public long getExpandedCount() {
+        return expandedCount;
+    }
+
+    // Décisions où le remplissage a écarté un coup qui enfermait le serpent
+    public long getTrapAvoidedCount() {
+        return trapAvoidedCount;
+    }
+
+    // Part des décisions servies par un chemin déjà planifié
+    public double getPathHitRate() {
+        long total = replanCount + reuseCount;
+        return total == 0 ? 0 : (double) reuseCount / total;
+    }
+
+    @Override
+    public String getName() {
+        return "IA Difficile";
+    }
+
+    @Override
+    public PlayerType getType() {
+        return PlayerType.AI_HARD;
+    }
+}
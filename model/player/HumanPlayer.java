@@ -2,7 +2,6 @@ package model.player;
 
 import model.Snake;
 import model.Direction;
-import java.awt.Point;
 import java.io.Serializable;
 
 /**
@@ -11,7 +10,7 @@ import java.io.Serializable;
 public class HumanPlayer implements Player, Serializable {
     private static final long serialVersionUID = 1L;
     private String name;
-    private Direction pendingDirection;
+    private volatile Direction pendingDirection; // Écrite par l'EDT, lue par la boucle de jeu
 
     public HumanPlayer(String name) {
         this.name = name;
@@ -19,7 +18,7 @@ public class HumanPlayer implements Player, Serializable {
     }
 
     @Override
-    public void updateDirection(Snake snake, Point apple, int boardWidth, int boardHeight) {
+    public void updateDirection(Snake snake, int appleCell, int cols, int rows) {
         // Pour un joueur humain, on applique simplement la direction en attente
         if (pendingDirection != null && snake.canChangeDirection(pendingDirection)) {
             snake.setDirection(pendingDirection);
@@ -1,19 +1,23 @@
 package model.player;
 
 import model.Snake;
-import java.awt.Point;
 
 /**
  * Interface Player pour le polymorphisme entre joueur humain et IA
  */
 public interface Player {
-    void updateDirection(Snake snake, Point apple, int boardWidth, int boardHeight);
+    void updateDirection(Snake snake, int appleCell, int cols, int rows);
 
     String getName();
 
     PlayerType getType();
 
     enum PlayerType {
-        HUMAN, AI_EASY, AI_MEDIUM, AI_HARD
+        HUMAN, AI_EASY, AI_MEDIUM, AI_HARD, AI_HAMILTONIAN;
+
+        // Référence pour une partie seule : pas de duel ni d'arène à plusieurs (voir HamiltonianAI)
+        public boolean isSoloOnly() {
+            return this == AI_HAMILTONIAN;
+        }
     }
 }
\ No newline at end of file
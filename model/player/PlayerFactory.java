@@ -15,6 +15,8 @@ public class PlayerFactory {
                 return new MediumAI();
             case AI_HARD:
                 return new HardAI();
+            case AI_HAMILTONIAN:
+                return new HamiltonianAI();
             default:
                 throw new IllegalArgumentException("Type de joueur inconnu: " + type);
         }
@@ -24,6 +26,7 @@ public class PlayerFactory {
         return createPlayer(Player.PlayerType.HUMAN, name);
     }
     
+    // Adversaires de duel : l'IA hamiltonienne, réservée au solo, n'en fait pas partie
     public static Player createAIPlayer(int difficulty) {
         switch (difficulty) {
             case 1:
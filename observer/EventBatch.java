@@ -0,0 +1,86 @@
+package observer;
+
+import java.util.List;
+
+/**
+ * Lot d'événements d'un tick, stocké dans des tableaux réutilisés d'un lot à l'autre
+ */
+class EventBatch {
+    static final byte SCORE_UPDATE = 0;
+    static final byte STATE_CHANGE = 1;
+    static final byte SNAKE_MOVE = 2;
+    static final byte APPLE_EATEN = 3;
+    static final byte COLLISION = 4;
+
+    private static final int INITIAL_CAPACITY = 16; // Largement plus qu'un tick n'en produit
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] firstValues = new int[INITIAL_CAPACITY];
+    private int[] secondValues = new int[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private GameObserver.GameState[] states = new GameObserver.GameState[INITIAL_CAPACITY];
+    private int size;
+
+    void add(byte type, int first, int second, String name, GameObserver.GameState state) {
+        if (size == types.length) {
+            grow();
+        }
+        types[size] = type;
+        firstValues[size] = first;
+        secondValues[size] = second;
+        names[size] = name;
+        states[size] = state;
+        size++;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        // Libère les références pour ne pas retenir les noms entre deux lots
+        for (int i = 0; i < size; i++) {
+            names[i] = null;
+            states[i] = null;
+        }
+        size = 0;
+    }
+
+    // Délivre les événements dans l'ordre où ils ont été produits
+    void dispatchTo(List<GameObserver> observers) {
+        for (int i = 0; i < size; i++) {
+            for (GameObserver observer : observers) {
+                switch (types[i]) {
+                    case SCORE_UPDATE:
+                        observer.onScoreUpdate(firstValues[i], secondValues[i]);
+                        break;
+                    case STATE_CHANGE:
+                        observer.onGameStateChange(states[i]);
+                        break;
+                    case SNAKE_MOVE:
+                        observer.onSnakeMove();
+                        break;
+                    case APPLE_EATEN:
+                        observer.onAppleEaten(names[i]);
+                        break;
+                    case COLLISION:
+                        observer.onCollision(names[i]);
+                        break;
+                }
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = java.util.Arrays.copyOf(types, capacity);
+        firstValues = java.util.Arrays.copyOf(firstValues, capacity);
+        secondValues = java.util.Arrays.copyOf(secondValues, capacity);
+        names = java.util.Arrays.copyOf(names, capacity);
+        states = java.util.Arrays.copyOf(states, capacity);
+    }
+}
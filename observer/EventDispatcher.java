@@ -0,0 +1,189 @@
+package observer;
+
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Diffusion asynchrone des événements : les lots de chaque tick passent par un
+ * tampon circulaire borné et sont délivrés aux observateurs sur un thread dédié.
+ * Les lots sont préalloués et échangés entre producteur et consommateur, sans copie.
+ */
+public class EventDispatcher implements Runnable {
+    private static final Logger LOGGER = Logger.getLogger(EventDispatcher.class.getName());
+
+    /**
+     * Comportement quand le tampon est plein
+     */
+    public enum OverflowPolicy {
+        BLOCK,       // Le producteur attend qu'une place se libère
+        DROP_NEWEST, // Le nouveau lot est abandonné
+        DROP_OLDEST  // Le plus ancien lot en attente est abandonné
+    }
+
+    private final EventBatch[] ring;
+    private final int mask;
+    private final OverflowPolicy policy;
+    private final List<GameObserver> observers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private long head; // Prochain lot à délivrer
+    private long tail; // Prochaine place libre
+    private boolean running;
+    private Thread thread;
+
+    // Statistiques (lues sous verrou)
+    private long publishedBatches;
+    private long droppedBatches;
+    private long blockedPublishes;
+
+    public EventDispatcher(int capacity, OverflowPolicy policy, List<GameObserver> observers) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacité invalide: " + capacity);
+        }
+        int size = Math.max(1, Integer.highestOneBit(capacity - 1) << 1); // Puissance de 2
+        this.ring = new EventBatch[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new EventBatch();
+        }
+        this.mask = size - 1;
+        this.policy = policy;
+        this.observers = observers;
+    }
+
+    public void start() {
+        lock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            thread = new Thread(this, "diffusion-evenements");
+            thread.setDaemon(true);
+            thread.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Arrête le thread une fois les lots en attente délivrés
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Place le lot dans le tampon et rend au producteur un lot vide à réutiliser
+    EventBatch publish(EventBatch batch) {
+        lock.lock();
+        try {
+            if (tail - head == ring.length) {
+                switch (policy) {
+                    case BLOCK:
+                        blockedPublishes++;
+                        while (running && tail - head == ring.length) {
+                            notFull.awaitUninterruptibly();
+                        }
+                        if (tail - head == ring.length) {
+                            // Arrêté entre-temps : plus personne pour consommer
+                            droppedBatches++;
+                            batch.clear();
+                            return batch;
+                        }
+                        break;
+                    case DROP_NEWEST:
+                        droppedBatches++;
+                        batch.clear();
+                        return batch;
+                    case DROP_OLDEST:
+                        droppedBatches++;
+                        head++;
+                        break;
+                }
+            }
+            int slot = (int) (tail & mask);
+            EventBatch spare = ring[slot];
+            ring[slot] = batch;
+            tail++;
+            publishedBatches++;
+            notEmpty.signal();
+            spare.clear();
+            return spare;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        EventBatch current = new EventBatch();
+        while (true) {
+            lock.lock();
+            try {
+                while (running && head == tail) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (head == tail) {
+                    return; // Arrêté et tampon vidé
+                }
+                // Échange avec un lot vide : la diffusion se fait hors verrou
+                int slot = (int) (head & mask);
+                EventBatch ready = ring[slot];
+                ring[slot] = current;
+                current = ready;
+                head++;
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                current.dispatchTo(observers);
+            } catch (RuntimeException e) {
+                // Un observateur défaillant ne doit pas arrêter la diffusion
+                LOGGER.log(Level.WARNING, "Erreur dans un observateur", e);
+            }
+            current.clear();
+        }
+    }
+
+    public long getPublishedBatches() {
+        lock.lock();
+        try {
+            return publishedBatches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDroppedBatches() {
+        lock.lock();
+        try {
+            return droppedBatches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getBlockedPublishes() {
+        lock.lock();
+        try {
+            return blockedPublishes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+}
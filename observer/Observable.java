@@ -1,51 +1,154 @@
 package observer;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Classe abstraite Observable pour implémenter le pattern Observer
+ * Classe abstraite Observable pour implémenter le pattern Observer.
+ * Par défaut les observateurs sont appelés immédiatement (synchrone) ; en mode
+ * asynchrone, les événements d'un tick sont regroupés en un lot et délivrés
+ * par un EventDispatcher sur son propre thread.
  */
 public abstract class Observable {
-    private List<GameObserver> observers = new ArrayList<>();
-    
+    // Liste parcourue par le thread de diffusion pendant que l'EDT peut la modifier
+    private final List<GameObserver> observers = new CopyOnWriteArrayList<>();
+
+    private final Object batchLock = new Object();
+    private volatile EventDispatcher dispatcher; // null : diffusion synchrone
+    private EventBatch batch = new EventBatch();
+    private boolean batching;
+
     public void addObserver(GameObserver observer) {
         if (!observers.contains(observer)) {
             observers.add(observer);
         }
     }
-    
+
     public void removeObserver(GameObserver observer) {
         observers.remove(observer);
     }
-    
+
+    // Passe en diffusion asynchrone à travers un tampon borné de lots
+    public void enableAsyncDispatch(int capacity, EventDispatcher.OverflowPolicy policy) {
+        synchronized (batchLock) {
+            if (dispatcher != null) {
+                dispatcher.stop();
+            }
+            dispatcher = new EventDispatcher(capacity, policy, observers);
+            dispatcher.start();
+        }
+    }
+
+    // Revient à la diffusion synchrone ; les lots en attente sont encore délivrés
+    public void disableAsyncDispatch() {
+        synchronized (batchLock) {
+            if (dispatcher != null) {
+                flushBatch();
+                dispatcher.stop();
+                dispatcher = null;
+            }
+        }
+    }
+
+    public EventDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    // Retient les événements suivants jusqu'à releaseEvents() : l'appelant les diffuse après
+    // avoir rendu ses verrous (en mode BLOCK, un tampon plein attend le consommateur)
+    public void holdEvents() {
+        beginEventBatch();
+    }
+
+    public void releaseEvents() {
+        endEventBatch();
+    }
+
+    // Début d'un tick : les événements suivants sont regroupés jusqu'à endEventBatch()
+    protected void beginEventBatch() {
+        if (dispatcher == null) {
+            return;
+        }
+        synchronized (batchLock) {
+            batching = true;
+        }
+    }
+
+    protected void endEventBatch() {
+        if (dispatcher == null) {
+            return;
+        }
+        synchronized (batchLock) {
+            batching = false;
+            flushBatch();
+        }
+    }
+
+    private void flushBatch() {
+        if (dispatcher != null && !batch.isEmpty()) {
+            batch = dispatcher.publish(batch);
+        }
+    }
+
+    // Mode asynchrone : ajoute l'événement au lot (envoyé seul hors d'un tick)
+    private boolean enqueue(byte type, int first, int second, String name, GameObserver.GameState state) {
+        if (dispatcher == null) {
+            return false; // Chemin synchrone sans verrou
+        }
+        synchronized (batchLock) {
+            if (dispatcher == null) {
+                return false;
+            }
+            batch.add(type, first, second, name, state);
+            if (!batching) {
+                flushBatch();
+            }
+            return true;
+        }
+    }
+
     protected void notifyScoreUpdate(int player1Score, int player2Score) {
+        if (enqueue(EventBatch.SCORE_UPDATE, player1Score, player2Score, null, null)) {
+            return;
+        }
         for (GameObserver observer : observers) {
             observer.onScoreUpdate(player1Score, player2Score);
         }
     }
-    
+
     protected void notifyGameStateChange(GameObserver.GameState state) {
+        if (enqueue(EventBatch.STATE_CHANGE, 0, 0, null, state)) {
+            return;
+        }
         for (GameObserver observer : observers) {
             observer.onGameStateChange(state);
         }
     }
-    
+
     protected void notifySnakeMove() {
+        if (enqueue(EventBatch.SNAKE_MOVE, 0, 0, null, null)) {
+            return;
+        }
         for (GameObserver observer : observers) {
             observer.onSnakeMove();
         }
     }
-    
+
     protected void notifyAppleEaten(String playerName) {
+        if (enqueue(EventBatch.APPLE_EATEN, 0, 0, playerName, null)) {
+            return;
+        }
         for (GameObserver observer : observers) {
             observer.onAppleEaten(playerName);
         }
     }
-    
+
     protected void notifyCollision(String playerName) {
+        if (enqueue(EventBatch.COLLISION, 0, 0, playerName, null)) {
+            return;
+        }
         for (GameObserver observer : observers) {
             observer.onCollision(playerName);
         }
     }
-}
\ No newline at end of file
+}
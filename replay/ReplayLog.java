@@ -0,0 +1,92 @@
+package replay;
+
+import model.player.Player;
+import java.io.*;
+
+/**
+ * Journal de rejeu chargé en mémoire : graine, plateau initial, joueurs,
+ * puis un octet par tick (directions des deux serpents)
+ *
+ * Format : en-tête "SNKR" + version, graine, taille du plateau en cases,
+ * type et nom des joueurs. Enregistrements : directions (octet 0..15),
+ * changement de taille du plateau, et fin de partie optionnelle (scores et
+ * nombre de ticks).
+ */
+public class ReplayLog {
+    static final int MAGIC = 0x534E4B52; // "SNKR"
+    static final short VERSION = 2;
+    static final int RESIZE = 0x40; // Suivi du nouveau nombre de colonnes et de lignes
+    static final int END = 0x7F; // Suivi des scores finaux et du nombre de ticks
+
+    private final long seed;
+    private final int boardCols;
+    private final int boardRows;
+    private final Player.PlayerType[] playerTypes;
+    private final String[] playerNames;
+    private final byte[] records;
+
+    private ReplayLog(long seed, int boardCols, int boardRows, Player.PlayerType[] playerTypes,
+            String[] playerNames, byte[] records) {
+        this.seed = seed;
+        this.boardCols = boardCols;
+        this.boardRows = boardRows;
+        this.playerTypes = playerTypes;
+        this.playerNames = playerNames;
+        this.records = records;
+    }
+
+    public static ReplayLog read(String filename) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(filename)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Fichier de rejeu invalide: " + filename);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Version de rejeu non supportée: " + version);
+            }
+            long seed = in.readLong();
+            int boardCols = in.readInt();
+            int boardRows = in.readInt();
+
+            Player.PlayerType[] types = new Player.PlayerType[2];
+            String[] names = new String[2];
+            Player.PlayerType[] values = Player.PlayerType.values();
+            for (int i = 0; i < 2; i++) {
+                int type = in.readByte();
+                if (type < 0 || type >= values.length) {
+                    throw new IOException("Type de joueur inconnu: " + type);
+                }
+                types[i] = values[type];
+                names[i] = in.readUTF();
+            }
+            return new ReplayLog(seed, boardCols, boardRows, types, names, in.readAllBytes());
+        } catch (EOFException e) {
+            throw new IOException("Fichier de rejeu tronqué: " + filename, e);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBoardCols() {
+        return boardCols;
+    }
+
+    public int getBoardRows() {
+        return boardRows;
+    }
+
+    public Player.PlayerType getPlayerType(int player) {
+        return playerTypes[player];
+    }
+
+    public String getPlayerName(int player) {
+        return playerNames[player];
+    }
+
+    // Enregistrements bruts, lus par ReplayRunner
+    byte[] getRecords() {
+        return records;
+    }
+}
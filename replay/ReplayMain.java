@@ -0,0 +1,69 @@
+package replay;
+
+import java.io.IOException;
+
+/**
+ * Rejoue une partie enregistrée et vérifie qu'elle retrouve l'état final
+ *
+ * Usage : java replay.ReplayMain FICHIER [--realtime] [--tick MS]
+ */
+public class ReplayMain {
+    private static final int DEFAULT_TICK = 100; // Cadence de la boucle de jeu
+
+    public static void main(String[] args) {
+        String filename = null;
+        boolean realTime = false;
+        int tickMillis = DEFAULT_TICK;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--realtime":
+                        realTime = true;
+                        break;
+                    case "--tick":
+                        tickMillis = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        if (args[i].startsWith("--") || filename != null) {
+                            throw new IllegalArgumentException("Option inconnue: " + args[i]);
+                        }
+                        filename = args[i];
+                }
+            }
+            if (filename == null) {
+                throw new IllegalArgumentException("Fichier de rejeu manquant");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Erreur: " + e.getMessage());
+            System.err.println("Usage: java replay.ReplayMain FICHIER [--realtime] [--tick MS]");
+            System.exit(1);
+            return;
+        }
+
+        ReplayRunner runner;
+        try {
+            runner = new ReplayRunner(ReplayLog.read(filename));
+        } catch (IOException e) {
+            System.err.println("Erreur lors du chargement: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (realTime) {
+            runner.runRealTime(tickMillis);
+        } else {
+            runner.runFast();
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+
+        System.out.printf("%d ticks rejoués en %.1f ms - %s: %d, %s: %d%n", runner.getTickCount(), millis,
+                runner.getLog().getPlayerName(0), runner.getModel().getPlayer1Score(),
+                runner.getLog().getPlayerName(1), runner.getModel().getPlayer2Score());
+        if (runner.hasRecordedEnd()) {
+            System.out.println(runner.matchesRecording() ? "Rejeu conforme à l'enregistrement"
+                    : "Rejeu DIVERGENT de l'enregistrement");
+        }
+    }
+}
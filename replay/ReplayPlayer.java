@@ -0,0 +1,38 @@
+package replay;
+
+import model.Direction;
+import model.Snake;
+import model.player.Player;
+
+/**
+ * Joueur rejouant les directions lues dans le journal, sous le nom et le type d'origine
+ */
+public class ReplayPlayer implements Player {
+    private final String name;
+    private final PlayerType type;
+    private Direction nextDirection;
+
+    public ReplayPlayer(String name, PlayerType type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    void setNextDirection(Direction direction) {
+        this.nextDirection = direction;
+    }
+
+    @Override
+    public void updateDirection(Snake snake, int appleCell, int cols, int rows) {
+        snake.setDirection(nextDirection);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public PlayerType getType() {
+        return type;
+    }
+}
@@ -0,0 +1,97 @@
+package replay;
+
+import model.Direction;
+import model.GameModel;
+import model.TickInputListener;
+import model.player.Player;
+import java.io.*;
+
+/**
+ * Enregistre une partie dans un journal en ajout seul : l'en-tête au départ,
+ * puis les directions appliquées à chaque tick (un octet par tick)
+ */
+public class ReplayRecorder implements TickInputListener, Closeable {
+    private final DataOutputStream out;
+    private int boardCols;
+    private int boardRows;
+    private long ticks;
+    private boolean closed;
+    private IOException error; // Première erreur d'écriture, signalée à la fermeture
+
+    // À créer juste après initGame, avec la graine et le plateau passés au modèle
+    public ReplayRecorder(String filename, long seed, int boardCols, int boardRows,
+            Player player1, Player player2) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)));
+        this.boardCols = boardCols;
+        this.boardRows = boardRows;
+        try {
+            out.writeInt(ReplayLog.MAGIC);
+            out.writeShort(ReplayLog.VERSION);
+            out.writeLong(seed);
+            out.writeInt(boardCols);
+            out.writeInt(boardRows);
+            writePlayer(player1);
+            writePlayer(player2);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    private void writePlayer(Player player) throws IOException {
+        out.writeByte(player.getType().ordinal());
+        out.writeUTF(player.getName() != null ? player.getName() : "");
+    }
+
+    // Appelé par la boucle de jeu : les erreurs sont mémorisées, pas propagées au tick
+    @Override
+    public synchronized void onTickInput(int cols, int rows,
+            Direction player1Direction, Direction player2Direction) {
+        if (closed || error != null) {
+            return;
+        }
+        try {
+            if (cols != boardCols || rows != boardRows) {
+                out.writeByte(ReplayLog.RESIZE);
+                out.writeInt(cols);
+                out.writeInt(rows);
+                boardCols = cols;
+                boardRows = rows;
+            }
+            out.writeByte(player1Direction.ordinal() | player2Direction.ordinal() << 2);
+            ticks++;
+        } catch (IOException e) {
+            error = e;
+        }
+    }
+
+    // Termine le journal par l'état final, qui permet au rejeu de se vérifier
+    public synchronized void finish(GameModel model) throws IOException {
+        if (!closed && error == null) {
+            try {
+                out.writeByte(ReplayLog.END);
+                out.writeInt(model.getPlayer1Score());
+                out.writeInt(model.getPlayer2Score());
+                out.writeLong(ticks);
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+        close();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            out.close();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    public synchronized long getTickCount() {
+        return ticks;
+    }
+}
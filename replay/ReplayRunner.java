@@ -0,0 +1,122 @@
+package replay;
+
+import model.Direction;
+import model.GameModel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rejoue un journal à travers GameModel.update, en temps réel ou aussi vite que possible.
+ * Le modèle est recréé avec la même graine : pommes et réapparitions sont identiques.
+ */
+public class ReplayRunner {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final ReplayLog log;
+    private final GameModel model;
+    private final ReplayPlayer player1;
+    private final ReplayPlayer player2;
+    private final byte[] records;
+    private int position;
+    private int boardCols;
+    private int boardRows;
+    private long ticks;
+
+    // État final enregistré, s'il est présent
+    private boolean hasEnd;
+    private int expectedPlayer1Score;
+    private int expectedPlayer2Score;
+    private long expectedTicks;
+
+    public ReplayRunner(ReplayLog log) {
+        this.log = log;
+        this.records = log.getRecords();
+        this.player1 = new ReplayPlayer(log.getPlayerName(0), log.getPlayerType(0));
+        this.player2 = new ReplayPlayer(log.getPlayerName(1), log.getPlayerType(1));
+        this.boardCols = log.getBoardCols();
+        this.boardRows = log.getBoardRows();
+        this.model = new GameModel(log.getSeed());
+        model.initGame(player1, player2, boardCols, boardRows);
+    }
+
+    // Exécute le tick suivant ; faux à la fin du journal
+    public boolean step() {
+        while (position < records.length) {
+            int record = records[position++] & 0xFF;
+            if (record == ReplayLog.RESIZE) {
+                boardCols = readInt();
+                boardRows = readInt();
+            } else if (record == ReplayLog.END) {
+                hasEnd = true;
+                expectedPlayer1Score = readInt();
+                expectedPlayer2Score = readInt();
+                expectedTicks = (long) readInt() << 32 | (readInt() & 0xFFFFFFFFL);
+                position = records.length;
+            } else if (record < 16) {
+                player1.setNextDirection(DIRECTIONS[record & 3]);
+                player2.setNextDirection(DIRECTIONS[record >> 2]);
+                model.update(boardCols, boardRows);
+                ticks++;
+                return true;
+            } else {
+                throw new IllegalStateException("Enregistrement de rejeu invalide: " + record);
+            }
+        }
+        return false;
+    }
+
+    public void runFast() {
+        while (step()) {
+            // Aucune attente entre les ticks
+        }
+    }
+
+    // Même cadence que la boucle de jeu : échéances fixes, sans dérive
+    public void runRealTime(long tickMillis) {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        long next = System.nanoTime() + tickNanos;
+        while (true) {
+            long wait;
+            while ((wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!step()) {
+                return;
+            }
+            next += tickNanos;
+        }
+    }
+
+    private int readInt() {
+        if (position + 4 > records.length) {
+            throw new IllegalStateException("Journal de rejeu tronqué");
+        }
+        int value = (records[position] & 0xFF) << 24 | (records[position + 1] & 0xFF) << 16
+                | (records[position + 2] & 0xFF) << 8 | (records[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    // Vrai si le rejeu retrouve l'état final enregistré (scores et nombre de ticks)
+    public boolean matchesRecording() {
+        return hasEnd && ticks == expectedTicks
+                && model.getPlayer1Score() == expectedPlayer1Score
+                && model.getPlayer2Score() == expectedPlayer2Score;
+    }
+
+    public boolean hasRecordedEnd() {
+        return hasEnd;
+    }
+
+    public GameModel getModel() {
+        return model;
+    }
+
+    public ReplayLog getLog() {
+        return log;
+    }
+
+    public long getTickCount() {
+        return ticks;
+    }
+}
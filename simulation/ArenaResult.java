@@ -0,0 +1,53 @@
+package simulation;
+
+import model.player.DecisionStats;
+
+/**
+ * Résultat d'une arène simulée : scores et tailles finales de chaque serpent
+ */
+public class ArenaResult {
+    private final int[] scores;
+    private final int[] lengths;
+    private final int ticks;
+    private final long durationNanos;
+    private final DecisionStats decisions; // Toutes les IA de l'arène (un seul type)
+
+    public ArenaResult(int[] scores, int[] lengths, int ticks, long durationNanos, DecisionStats decisions) {
+        this.scores = scores;
+        this.lengths = lengths;
+        this.ticks = ticks;
+        this.durationNanos = durationNanos;
+        this.decisions = decisions;
+    }
+
+    // Indice du serpent au meilleur score (le premier en cas d'égalité)
+    public int getBestSnake() {
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    public double getTicksPerSecond() {
+        return durationNanos > 0 ? ticks * 1e9 / durationNanos : 0;
+    }
+
+    // Getters
+    public int getSnakeCount() { return scores.length; }
+    public int getScore(int index) { return scores[index]; }
+    public int getLength(int index) { return lengths[index]; }
+    public int getTicks() { return ticks; }
+    public long getDurationNanos() { return durationNanos; }
+    public DecisionStats getDecisions() { return decisions; }
+
+    @Override
+    public String toString() {
+        int best = getBestSnake();
+        return String.format("%d serpents, meilleur #%d (score %d, taille %d), %d ticks, %.2f ms (%.0f ticks/s)",
+                scores.length, best + 1, scores[best], lengths[best], ticks, durationNanos / 1_000_000.0,
+                getTicksPerSecond());
+    }
+}
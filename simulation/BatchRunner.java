@@ -0,0 +1,70 @@
+package simulation;
+
+import model.player.Player;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * Exécute un lot de parties indépendantes en parallèle sur tous les coeurs
+ * et agrège les scores
+ */
+public class BatchRunner {
+    private final HeadlessEngine engine;
+    private final int parallelism;
+
+    public BatchRunner(HeadlessEngine engine) {
+        this(engine, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRunner(HeadlessEngine engine, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Nombre de threads invalide: " + parallelism);
+        }
+        this.engine = engine;
+        this.parallelism = parallelism;
+    }
+
+    public BatchStatistics run(Player.PlayerType player1Type, Player.PlayerType player2Type,
+            long games, long baseSeed) {
+        return run(player1Type, player2Type, games, baseSeed, null);
+    }
+
+    // Le listener optionnel reçoit chaque résultat, depuis les threads de calcul
+    public BatchStatistics run(Player.PlayerType player1Type, Player.PlayerType player2Type,
+            long games, long baseSeed, Consumer<MatchResult> listener) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> LongStream.range(0, games)
+                    .parallel()
+                    .mapToObj(game -> {
+                        MatchResult result = engine.runMatch(player1Type, player2Type,
+                                matchSeed(baseSeed, game));
+                        if (listener != null) {
+                            listener.accept(result);
+                        }
+                        return result;
+                    })
+                    .collect(BatchStatistics::new, BatchStatistics::accept, BatchStatistics::combine))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrompue", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erreur pendant la simulation", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Graine propre à chaque partie, indépendante de l'ordre d'exécution
+    static long matchSeed(long baseSeed, long game) {
+        return new SplittableRandom(baseSeed + game * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -0,0 +1,129 @@
+package simulation;
+
+import model.player.DecisionStats;
+import model.player.Player;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Statistiques agrégées d'un lot de parties ; fusionnables entre threads
+ */
+public class BatchStatistics {
+    private long games;
+    private long player1Wins;
+    private long player2Wins;
+    private long draws;
+    private long player1ScoreSum;
+    private long player2ScoreSum;
+    private double player1ScoreSquares;
+    private double player2ScoreSquares;
+    private int player1MaxScore;
+    private int player2MaxScore;
+    private long player1LengthSum;
+    private long player2LengthSum;
+    private long totalTicks;
+    private long totalNanos;
+    private final Map<Player.PlayerType, DecisionStats> decisions = new EnumMap<>(Player.PlayerType.class);
+
+    public void accept(MatchResult result) {
+        games++;
+        switch (result.getWinner()) {
+            case 1:
+                player1Wins++;
+                break;
+            case 2:
+                player2Wins++;
+                break;
+            default:
+                draws++;
+                break;
+        }
+        int score1 = result.getPlayer1Score();
+        int score2 = result.getPlayer2Score();
+        player1ScoreSum += score1;
+        player2ScoreSum += score2;
+        player1ScoreSquares += (double) score1 * score1;
+        player2ScoreSquares += (double) score2 * score2;
+        player1MaxScore = Math.max(player1MaxScore, score1);
+        player2MaxScore = Math.max(player2MaxScore, score2);
+        player1LengthSum += result.getPlayer1Length();
+        player2LengthSum += result.getPlayer2Length();
+        totalTicks += result.getTicks();
+        totalNanos += result.getDurationNanos();
+        addDecisions(result.getPlayer1Decisions());
+        addDecisions(result.getPlayer2Decisions());
+    }
+
+    public void combine(BatchStatistics other) {
+        games += other.games;
+        player1Wins += other.player1Wins;
+        player2Wins += other.player2Wins;
+        draws += other.draws;
+        player1ScoreSum += other.player1ScoreSum;
+        player2ScoreSum += other.player2ScoreSum;
+        player1ScoreSquares += other.player1ScoreSquares;
+        player2ScoreSquares += other.player2ScoreSquares;
+        player1MaxScore = Math.max(player1MaxScore, other.player1MaxScore);
+        player2MaxScore = Math.max(player2MaxScore, other.player2MaxScore);
+        player1LengthSum += other.player1LengthSum;
+        player2LengthSum += other.player2LengthSum;
+        totalTicks += other.totalTicks;
+        totalNanos += other.totalNanos;
+        for (DecisionStats stats : other.decisions.values()) {
+            addDecisions(stats);
+        }
+    }
+
+    private void addDecisions(DecisionStats stats) {
+        decisions.computeIfAbsent(stats.getType(), DecisionStats::new).combine(stats);
+    }
+
+    // Temps de décision des IA, une ligne par type de joueur
+    public String getDecisionReport() {
+        return DecisionStats.getReport(decisions.values());
+    }
+
+    public double getPlayer1MeanScore() {
+        return games == 0 ? 0 : (double) player1ScoreSum / games;
+    }
+
+    public double getPlayer2MeanScore() {
+        return games == 0 ? 0 : (double) player2ScoreSum / games;
+    }
+
+    public double getPlayer1ScoreStdDev() {
+        return stdDev(player1ScoreSum, player1ScoreSquares);
+    }
+
+    public double getPlayer2ScoreStdDev() {
+        return stdDev(player2ScoreSum, player2ScoreSquares);
+    }
+
+    private double stdDev(long sum, double squares) {
+        if (games == 0) {
+            return 0;
+        }
+        double mean = (double) sum / games;
+        return Math.sqrt(Math.max(0, squares / games - mean * mean));
+    }
+
+    public double getPlayer1WinRate() {
+        return games == 0 ? 0 : (double) player1Wins / games;
+    }
+
+    public double getPlayer2WinRate() {
+        return games == 0 ? 0 : (double) player2Wins / games;
+    }
+
+    // Getters
+    public long getGames() { return games; }
+    public long getPlayer1Wins() { return player1Wins; }
+    public long getPlayer2Wins() { return player2Wins; }
+    public long getDraws() { return draws; }
+    public int getPlayer1MaxScore() { return player1MaxScore; }
+    public int getPlayer2MaxScore() { return player2MaxScore; }
+    public double getPlayer1MeanLength() { return games == 0 ? 0 : (double) player1LengthSum / games; }
+    public double getPlayer2MeanLength() { return games == 0 ? 0 : (double) player2LengthSum / games; }
+    public long getTotalTicks() { return totalTicks; }
+    public long getTotalNanos() { return totalNanos; }
+}
@@ -0,0 +1,156 @@
+package simulation;
+
+import model.GameModel;
+import model.player.AIPlayer;
+import model.player.DecisionStats;
+import model.player.Player;
+import model.player.PlayerFactory;
+import replay.ReplayRecorder;
+import util.Helper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Moteur de simulation sans Swing : enchaîne les appels à GameModel.update
+ * aussi vite que possible sur un plateau logique fixe
+ */
+public class HeadlessEngine {
+    // Plateau logique par défaut (40 x 40 cases)
+    public static final int DEFAULT_BOARD_SIZE = Helper.DEFAULT_BOARD_CELLS;
+    public static final int DEFAULT_TICKS = 2000;
+
+    private final int boardCols;
+    private final int boardRows;
+    private final int ticksPerMatch;
+
+    public HeadlessEngine() {
+        this(DEFAULT_BOARD_SIZE, DEFAULT_BOARD_SIZE, DEFAULT_TICKS);
+    }
+
+    public HeadlessEngine(int boardCols, int boardRows, int ticksPerMatch) {
+        if (boardCols <= 0 || boardRows <= 0 || ticksPerMatch <= 0) {
+            throw new IllegalArgumentException("Paramètres de simulation invalides");
+        }
+        this.boardCols = boardCols;
+        this.boardRows = boardRows;
+        this.ticksPerMatch = ticksPerMatch;
+    }
+
+    public MatchResult runMatch(Player.PlayerType player1Type, Player.PlayerType player2Type) {
+        return runMatch(player1Type, player2Type, ThreadLocalRandom.current().nextLong());
+    }
+
+    // Partie reproductible : la graine alimente le modèle et chaque IA
+    public MatchResult runMatch(Player.PlayerType player1Type, Player.PlayerType player2Type, long seed) {
+        checkDuelTypes(player1Type, player2Type);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        Player player1 = createSeededPlayer(player1Type, seeds.nextLong());
+        Player player2 = createSeededPlayer(player2Type, seeds.nextLong());
+        GameModel model = new GameModel(seeds.nextLong());
+        return playMatch(model, player1, player2, null);
+    }
+
+    // Même partie que runMatch, enregistrée dans un journal de rejeu
+    public MatchResult recordMatch(Player.PlayerType player1Type, Player.PlayerType player2Type, long seed,
+            String filename) throws IOException {
+        checkDuelTypes(player1Type, player2Type);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        Player player1 = createSeededPlayer(player1Type, seeds.nextLong());
+        Player player2 = createSeededPlayer(player2Type, seeds.nextLong());
+        long modelSeed = seeds.nextLong();
+        GameModel model = new GameModel(modelSeed);
+
+        try (ReplayRecorder recorder = new ReplayRecorder(filename, modelSeed, boardCols, boardRows,
+                player1, player2)) {
+            MatchResult result = playMatch(model, player1, player2, recorder);
+            recorder.finish(model);
+            return result;
+        }
+    }
+
+    // Arène : plusieurs IA du même type sur un seul plateau, collisions entre serpents
+    public ArenaResult runArena(Player.PlayerType type, int snakeCount, long seed) {
+        if (type.isSoloOnly() && snakeCount > 1) {
+            throw new IllegalArgumentException(type + " ne joue qu'en solo (arène d'un seul serpent)");
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < snakeCount; i++) {
+            players.add(createSeededPlayer(type, seeds.nextLong()));
+        }
+        GameModel model = new GameModel(seeds.nextLong());
+        model.setFramePublishing(false); // Pas de rendu : aucune copie des corps par tick
+
+        long start = System.nanoTime();
+        model.initArena(players, boardCols, boardRows);
+        int ticks = 0;
+        while (ticks < ticksPerMatch && model.isRunning()) {
+            model.update(boardCols, boardRows);
+            ticks++;
+        }
+        long duration = System.nanoTime() - start;
+
+        int[] scores = new int[snakeCount];
+        int[] lengths = new int[snakeCount];
+        for (int i = 0; i < snakeCount; i++) {
+            scores[i] = model.getScore(i);
+            lengths[i] = model.getSnake(i).getLength();
+        }
+        return new ArenaResult(scores, lengths, ticks, duration, model.getDecisionStats(type));
+    }
+
+    private static void checkDuelTypes(Player.PlayerType player1Type, Player.PlayerType player2Type) {
+        if (player1Type.isSoloOnly() || player2Type.isSoloOnly()) {
+            throw new IllegalArgumentException((player1Type.isSoloOnly() ? player1Type : player2Type)
+                    + " ne joue qu'en solo (arène d'un seul serpent)");
+        }
+    }
+
+    private MatchResult playMatch(GameModel model, Player player1, Player player2, ReplayRecorder recorder) {
+        long start = System.nanoTime();
+        model.setFramePublishing(false);
+        model.initGame(player1, player2, boardCols, boardRows);
+        model.setInputListener(recorder);
+        int ticks = 0;
+        while (ticks < ticksPerMatch && model.isRunning()) {
+            model.update(boardCols, boardRows);
+            ticks++;
+        }
+        long duration = System.nanoTime() - start;
+
+        return new MatchResult(player1.getType(), player2.getType(),
+                model.getPlayer1Score(), model.getPlayer2Score(),
+                model.getSnake1().getLength(), model.getSnake2().getLength(),
+                ticks, duration, decisionStats(player1), decisionStats(player2));
+    }
+
+    private static DecisionStats decisionStats(Player player) {
+        return player instanceof AIPlayer ? ((AIPlayer) player).getDecisionStats()
+                : new DecisionStats(player.getType());
+    }
+
+    private Player createSeededPlayer(Player.PlayerType type, long seed) {
+        Player player = PlayerFactory.createPlayer(type, null);
+        if (player instanceof AIPlayer) {
+            ((AIPlayer) player).setSeed(seed);
+            // Une coupure sur le temps (pause GC, JIT) rendrait la partie non reproductible
+            ((AIPlayer) player).setDecisionBudget(AIPlayer.UNLIMITED_BUDGET);
+        }
+        return player;
+    }
+
+    public int getBoardCols() {
+        return boardCols;
+    }
+
+    public int getBoardRows() {
+        return boardRows;
+    }
+
+    public int getTicksPerMatch() {
+        return ticksPerMatch;
+    }
+}
@@ -0,0 +1,73 @@
+package simulation;
+
+import model.player.DecisionStats;
+import model.player.Player;
+
+/**
+ * Résultat d'une partie simulée sans interface
+ */
+public class MatchResult {
+    private final Player.PlayerType player1Type;
+    private final Player.PlayerType player2Type;
+    private final int player1Score;
+    private final int player2Score;
+    private final int player1Length;
+    private final int player2Length;
+    private final int ticks;
+    private final long durationNanos;
+    private final DecisionStats player1Decisions;
+    private final DecisionStats player2Decisions;
+
+    public MatchResult(Player.PlayerType player1Type, Player.PlayerType player2Type,
+            int player1Score, int player2Score, int player1Length, int player2Length,
+            int ticks, long durationNanos) {
+        this(player1Type, player2Type, player1Score, player2Score, player1Length, player2Length,
+                ticks, durationNanos, new DecisionStats(player1Type), new DecisionStats(player2Type));
+    }
+
+    // Temps de décision de chaque joueur pendant la partie (vides pour un humain)
+    public MatchResult(Player.PlayerType player1Type, Player.PlayerType player2Type,
+            int player1Score, int player2Score, int player1Length, int player2Length,
+            int ticks, long durationNanos, DecisionStats player1Decisions, DecisionStats player2Decisions) {
+        this.player1Type = player1Type;
+        this.player2Type = player2Type;
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.player1Length = player1Length;
+        this.player2Length = player2Length;
+        this.ticks = ticks;
+        this.durationNanos = durationNanos;
+        this.player1Decisions = player1Decisions;
+        this.player2Decisions = player2Decisions;
+    }
+
+    // 1 ou 2 pour le gagnant, 0 en cas d'égalité
+    public int getWinner() {
+        if (player1Score > player2Score) {
+            return 1;
+        }
+        if (player2Score > player1Score) {
+            return 2;
+        }
+        return 0;
+    }
+
+    // Getters
+    public Player.PlayerType getPlayer1Type() { return player1Type; }
+    public Player.PlayerType getPlayer2Type() { return player2Type; }
+    public int getPlayer1Score() { return player1Score; }
+    public int getPlayer2Score() { return player2Score; }
+    public int getPlayer1Length() { return player1Length; }
+    public int getPlayer2Length() { return player2Length; }
+    public int getTicks() { return ticks; }
+    public long getDurationNanos() { return durationNanos; }
+    public DecisionStats getPlayer1Decisions() { return player1Decisions; }
+    public DecisionStats getPlayer2Decisions() { return player2Decisions; }
+
+    @Override
+    public String toString() {
+        return String.format("%s %d - %d %s (tailles %d/%d, %d ticks, %.2f ms)",
+                player1Type, player1Score, player2Score, player2Type,
+                player1Length, player2Length, ticks, durationNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,171 @@
+package simulation;
+
+import model.player.Player;
+import util.Helper;
+
+/**
+ * Point d'entrée en ligne de commande pour les parties IA contre IA sans interface
+ *
+ * Usage : java simulation.SimulationMain [--games N] [--ticks N] [--board CASES]
+ *         [--p1 facile|moyen|difficile|hamilton] [--p2 facile|moyen|difficile]
+ *         [--threads N] [--seed N] [--verbose] [--record FICHIER] [--arena N]
+ *
+ * Avec --record, une seule partie est jouée et enregistrée pour replay.ReplayMain.
+ * Avec --arena, N serpents du type --p1 s'affrontent sur un seul plateau.
+ * L'IA hamiltonienne ne joue qu'en solo : --p1 hamilton --arena 1.
+ */
+public class SimulationMain {
+
+    public static void main(String[] args) {
+        long games = 100;
+        int ticks = HeadlessEngine.DEFAULT_TICKS;
+        int board = Helper.DEFAULT_BOARD_CELLS;
+        Player.PlayerType player1Type = Player.PlayerType.AI_HARD;
+        Player.PlayerType player2Type = Player.PlayerType.AI_MEDIUM;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        boolean verbose = false;
+        String recordFile = null;
+        int arenaSnakes = 0;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--games":
+                        games = Long.parseLong(args[++i]);
+                        break;
+                    case "--ticks":
+                        ticks = Integer.parseInt(args[++i]);
+                        break;
+                    case "--board":
+                        board = Integer.parseInt(args[++i]);
+                        Helper.checkBoardCells(board);
+                        break;
+                    case "--p1":
+                        player1Type = parsePlayerType(args[++i]);
+                        break;
+                    case "--p2":
+                        player2Type = parsePlayerType(args[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--verbose":
+                        verbose = true;
+                        break;
+                    case "--record":
+                        recordFile = args[++i];
+                        break;
+                    case "--arena":
+                        arenaSnakes = Integer.parseInt(args[++i]);
+                        if (arenaSnakes <= 0) {
+                            throw new IllegalArgumentException("Nombre de serpents invalide: " + arenaSnakes);
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Option inconnue: " + args[i]);
+                }
+            }
+            if (arenaSnakes != 1 && (player1Type.isSoloOnly() || (arenaSnakes == 0 && player2Type.isSoloOnly()))) {
+                throw new IllegalArgumentException("L'IA hamiltonienne ne joue qu'en solo (--arena 1)");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Erreur: " + e.getMessage());
+            System.err.println("Usage: java simulation.SimulationMain [--games N] [--ticks N] [--board CASES]"
+                    + " [--p1 facile|moyen|difficile|hamilton] [--p2 facile|moyen|difficile]"
+                    + " [--threads N] [--seed N] [--verbose] [--record FICHIER] [--arena N]");
+            System.exit(1);
+            return;
+        }
+
+        HeadlessEngine engine = new HeadlessEngine(board, board, ticks);
+        if (recordFile != null) {
+            record(engine, player1Type, player2Type, seed, recordFile);
+            return;
+        }
+        if (arenaSnakes > 0) {
+            arena(engine, player1Type, arenaSnakes, seed, verbose);
+            return;
+        }
+        BatchRunner runner = new BatchRunner(engine, threads);
+
+        long start = System.nanoTime();
+        BatchStatistics stats = runner.run(player1Type, player2Type, games, seed,
+                verbose ? result -> System.out.println(result) : null);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d parties %s contre %s (%d ticks, plateau %dx%d, %d threads, graine %d)%n",
+                stats.getGames(), player1Type, player2Type, ticks, board, board, threads, seed);
+        System.out.printf("Victoires J1: %d (%.1f%%) | Victoires J2: %d (%.1f%%) | Égalités: %d%n",
+                stats.getPlayer1Wins(), stats.getPlayer1WinRate() * 100,
+                stats.getPlayer2Wins(), stats.getPlayer2WinRate() * 100, stats.getDraws());
+        System.out.printf("Score moyen: %.2f (± %.2f, max %d) - %.2f (± %.2f, max %d)%n",
+                stats.getPlayer1MeanScore(), stats.getPlayer1ScoreStdDev(), stats.getPlayer1MaxScore(),
+                stats.getPlayer2MeanScore(), stats.getPlayer2ScoreStdDev(), stats.getPlayer2MaxScore());
+        System.out.printf("Taille finale moyenne: %.1f - %.1f%n",
+                stats.getPlayer1MeanLength(), stats.getPlayer2MeanLength());
+        System.out.printf("%.1f parties/s, %.0f ticks/s%n",
+                stats.getGames() / seconds, stats.getTotalTicks() / seconds);
+        printDecisionReport(stats.getDecisionReport());
+    }
+
+    private static void printDecisionReport(String report) {
+        if (!report.isEmpty()) {
+            System.out.println("Temps de décision IA:");
+            System.out.println(report);
+        }
+    }
+
+    private static void record(HeadlessEngine engine, Player.PlayerType player1Type,
+            Player.PlayerType player2Type, long seed, String recordFile) {
+        try {
+            MatchResult result = engine.recordMatch(player1Type, player2Type, seed, recordFile);
+            System.out.println(result);
+            System.out.printf("Partie enregistrée dans %s (%d octets, graine %d)%n",
+                    recordFile, new java.io.File(recordFile).length(), seed);
+        } catch (java.io.IOException e) {
+            System.err.println("Erreur lors de l'enregistrement: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void arena(HeadlessEngine engine, Player.PlayerType type, int snakeCount, long seed,
+            boolean verbose) {
+        ArenaResult result = engine.runArena(type, snakeCount, seed);
+        System.out.printf("Arène de %d serpents %s (plateau %dx%d, graine %d)%n",
+                snakeCount, type, engine.getBoardCols(), engine.getBoardRows(), seed);
+        System.out.println(result);
+        printDecisionReport(result.getDecisions().getReport());
+        if (verbose) {
+            for (int i = 0; i < result.getSnakeCount(); i++) {
+                System.out.printf("  #%d: score %d, taille %d%n", i + 1, result.getScore(i), result.getLength(i));
+            }
+        }
+    }
+
+    static Player.PlayerType parsePlayerType(String value) {
+        switch (value.toLowerCase()) {
+            case "facile":
+            case "easy":
+            case "1":
+                return Player.PlayerType.AI_EASY;
+            case "moyen":
+            case "medium":
+            case "2":
+                return Player.PlayerType.AI_MEDIUM;
+            case "difficile":
+            case "hard":
+            case "3":
+                return Player.PlayerType.AI_HARD;
+            case "hamilton":
+            case "hamiltonien":
+            case "4":
+                return Player.PlayerType.AI_HAMILTONIAN;
+            default:
+                throw new IllegalArgumentException("Type d'IA inconnu: " + value);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import model.player.Player;
+import org.junit.jupiter.api.Test;
+
+class GameModelTest {
+    private static final int SIZE = 20;
+    private static final int TICKS = 60; // Plusieurs morts par serpent contre le mur du haut
+
+    // Joueur qui monte toujours, droit dans la barre de score
+    private static final class UpPlayer implements Player {
+        @Override
+        public void updateDirection(Snake snake, int appleCell, int cols, int rows) {
+            if (snake.canChangeDirection(Direction.UP)) {
+                snake.setDirection(Direction.UP);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "Haut";
+        }
+
+        @Override
+        public PlayerType getType() {
+            return PlayerType.AI_EASY;
+        }
+    }
+
+    @Test
+    void twoSnakeArenaDoesNotScoreWallDeaths() {
+        GameModel model = new GameModel(1);
+        model.setFramePublishing(false);
+        model.initArena(List.of(new UpPlayer(), new UpPlayer()), SIZE, SIZE);
+        for (int i = 0; i < TICKS; i++) {
+            model.update(SIZE, SIZE);
+        }
+        // Seules les pommes rapportent des points : aucune pénalité de collision attribuée
+        assertTrue(model.getScore(0) < 5, "score: " + model.getScore(0));
+        assertTrue(model.getScore(1) < 5, "score: " + model.getScore(1));
+    }
+
+    @Test
+    void soloArenaIgnoresTheInputListener() {
+        GameModel model = new GameModel(1);
+        model.setFramePublishing(false);
+        int[] calls = new int[1];
+        model.setInputListener((cols, rows, player1Direction, player2Direction) -> calls[0]++);
+        model.initArena(List.of(new UpPlayer()), SIZE, SIZE);
+        for (int i = 0; i < TICKS; i++) {
+            model.update(SIZE, SIZE);
+        }
+        assertEquals(0, calls[0]);
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import org.junit.jupiter.api.Test;
+
+class SnakeTest {
+    private static final int SIZE = 400;
+    private static final int LONG = 100_000;
+    private static final int SHORT = 10;
+    private static final int QUERIES = 1_000_000;
+
+    // Corps en zigzag, tête en premier, ligne par ligne à partir de la ligne 2
+    private static Snake zigzag(int length, SpatialIndex index, int id) {
+        int[] body = new int[length];
+        for (int i = 0; i < length; i++) {
+            int row = 2 + i / SIZE;
+            int col = row % 2 == 0 ? i % SIZE : SIZE - 1 - i % SIZE;
+            body[i] = Cell.pack(col, row);
+        }
+        Snake snake = new Snake(body, length, Direction.LEFT, Color.GREEN, false);
+        snake.attachIndex(index, id);
+        return snake;
+    }
+
+    @Test
+    void occupancyChecksUseTheIndex() {
+        SpatialIndex index = new SpatialIndex(SIZE, SIZE);
+        Snake snake = zigzag(LONG, index, 0);
+        Snake other = new Snake(SIZE / 2, SIZE - 10, Color.BLUE, Direction.RIGHT);
+        other.attachIndex(index, 1);
+        int tail = snake.getCell(LONG - 1);
+
+        assertTrue(snake.occupiesCell(tail));
+        assertTrue(snake.wouldCollideWithSelf(tail));
+        assertFalse(snake.wouldCollideWithSelf(snake.getHeadCell()));
+        assertFalse(snake.checkSelfCollision());
+        assertFalse(snake.occupiesCell(other.getHeadCell()));
+        assertTrue(snake.isCellBlocked(other.getHeadCell()));
+    }
+
+    @Test
+    void occupiedCellCheckDoesNotDependOnLength() {
+        long shortNanos = bestTime(SHORT);
+        long longNanos = bestTime(LONG);
+        // Un parcours du corps serait 10 000 fois plus lent sur le long serpent
+        assertTrue(longNanos < 5 * shortNanos + 5_000_000,
+                "court: " + shortNanos + " ns, long: " + longNanos + " ns");
+    }
+
+    // Meilleur temps de plusieurs séries de requêtes sur des cases occupées (la queue)
+    private static long bestTime(int length) {
+        SpatialIndex index = new SpatialIndex(SIZE, SIZE);
+        Snake snake = zigzag(length, index, 0);
+        int tail = snake.getCell(length - 1);
+        long best = Long.MAX_VALUE;
+        int hits = 0;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                if (snake.occupiesCell(tail) && snake.wouldCollideWithSelf(tail)) {
+                    hits++;
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertTrue(hits == 5 * QUERIES);
+        return best;
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import org.junit.jupiter.api.Test;
+
+class SpatialIndexTest {
+    private static final int A = 0;
+    private static final int B = 1;
+    private static final int C = 2;
+
+    @Test
+    void threeOccupantsKeepTheirOwnership() {
+        // Plateau dense, puis très grand plateau (indexation creuse)
+        for (int size : new int[] {40, 20_000}) {
+            SpatialIndex index = new SpatialIndex(size, size);
+            int cell = Cell.pack(10, 10);
+            index.add(cell, A);
+            index.add(cell, B);
+            index.add(cell, C);
+            assertEquals(3, index.count(cell));
+
+            index.remove(cell, A);
+            index.remove(cell, C);
+
+            assertEquals(1, index.count(cell));
+            assertEquals(1, index.count(cell, B));
+            assertEquals(0, index.count(cell, A));
+            assertEquals(0, index.count(cell, C));
+            assertEquals(B, index.otherOwner(cell, C));
+            assertEquals(SpatialIndex.NO_OWNER, index.otherOwner(cell, B));
+
+            index.remove(cell, B);
+            assertFalse(index.isOccupied(cell));
+            assertEquals(SpatialIndex.NO_OWNER, index.otherOwner(cell, A));
+        }
+    }
+
+    @Test
+    void removingAnAbsentSnakeKeepsTheCell() {
+        SpatialIndex index = new SpatialIndex(40, 40);
+        int cell = Cell.pack(5, 5);
+        index.add(cell, A);
+        index.add(cell, B);
+        index.remove(cell, C);
+        assertEquals(2, index.count(cell));
+        assertEquals(1, index.count(cell, A));
+        assertEquals(1, index.count(cell, B));
+    }
+
+    @Test
+    void snakeLeavingASharedCellNoLongerOccupiesIt() {
+        SpatialIndex index = new SpatialIndex(40, 40);
+        int cell = Cell.pack(10, 10);
+        Snake[] snakes = new Snake[3];
+        for (int i = 0; i < snakes.length; i++) {
+            snakes[i] = new Snake(new int[] {cell}, 1, Direction.RIGHT, Color.GREEN, false);
+            snakes[i].attachIndex(index, i);
+        }
+
+        snakes[A].respawn(Cell.pack(20, 5), Direction.RIGHT);
+        snakes[C].respawn(Cell.pack(20, 30), Direction.RIGHT);
+
+        assertTrue(snakes[B].occupiesCell(cell));
+        assertFalse(snakes[A].occupiesCell(cell));
+        assertFalse(snakes[C].occupiesCell(cell));
+        assertEquals(B, index.otherOwner(cell, C));
+    }
+}
@@ -0,0 +1,59 @@
+package model.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import model.Cell;
+import model.Direction;
+import model.Snake;
+import org.junit.jupiter.api.Test;
+
+class HardAIBudgetTest {
+    private static final int SIZE = 128;
+    private static final long BUDGET = 50_000; // 50 µs : bien moins qu'un parcours complet de la fenêtre
+    private static final int WARMUP = 200;
+    private static final int DECISIONS = 500;
+
+    @Test
+    void cutoffBoundsDecisionTime() {
+        HardAI ai = new HardAI();
+        ai.setSeed(1);
+        Snake snake = new Snake(SIZE / 2, SIZE / 2, Color.GREEN, Direction.RIGHT);
+        // Pomme dans la barre de score : inaccessible, l'A* parcourt toute la fenêtre sans coupure
+        int apple = Cell.pack(SIZE / 2, 0);
+
+        ai.setDecisionBudget(AIPlayer.UNLIMITED_BUDGET);
+        for (int i = 0; i < WARMUP; i++) {
+            ai.planDirection(snake, apple, SIZE, SIZE);
+        }
+        DecisionStats stats = ai.getDecisionStats();
+        long fullSearch = stats.getPercentile(50);
+        assertTrue(fullSearch > 4 * BUDGET, "parcours complet: " + fullSearch + " ns");
+
+        stats.reset();
+        ai.setDecisionBudget(BUDGET);
+        long cutoffsBefore = ai.getBudgetCutoffCount();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long[] cpuNanos = new long[DECISIONS];
+        for (int i = 0; i < DECISIONS; i++) {
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            ai.planDirection(snake, apple, SIZE, SIZE);
+            cpuNanos[i] = threads.getCurrentThreadCpuTime() - cpuStart;
+        }
+        Arrays.sort(cpuNanos);
+
+        assertEquals(DECISIONS, stats.getDecisions());
+        assertTrue(ai.getBudgetCutoffCount() - cutoffsBefore > DECISIONS / 2, stats.getReport());
+        // La coupure borne le temps de décision, loin du parcours complet. Le temps CPU du
+        // thread sert au p99 : une préemption par l'ordonnanceur ne dépend pas de la recherche
+        assertTrue(stats.getPercentile(50) <= 2 * BUDGET, stats.getReport());
+        long cpuP99 = cpuNanos[DECISIONS * 99 / 100];
+        assertTrue(cpuP99 <= 3 * BUDGET, "p99 CPU: " + cpuP99 + " ns; " + stats.getReport());
+        // Une coupure ne fait pas passer l'IA en mode économique
+        assertEquals(0, stats.getFallbacks(), stats.getReport());
+    }
+}
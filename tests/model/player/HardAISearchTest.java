@@ -0,0 +1,104 @@
+package model.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.util.List;
+import model.Cell;
+import model.Direction;
+import model.GameModel;
+import model.Snake;
+import observer.GameObserver;
+import org.junit.jupiter.api.Test;
+
+class HardAISearchTest {
+    private static final int SIZE = 128;
+    private static final int LARGE_BOARD = 2000; // Bien plus grand que la fenêtre de recherche
+    private static final int SOLO_BOARD = 40;
+    private static final int SOLO_TICKS = 20_000;
+
+    @Test
+    void astarExpandsFewerNodesThanBreadthFirst() {
+        HardAI ai = new HardAI();
+        ai.setDecisionBudget(AIPlayer.UNLIMITED_BUDGET);
+        Snake snake = new Snake(SIZE / 2, SIZE / 2, Color.GREEN, Direction.RIGHT);
+        int dx = 30;
+        int dy = 20;
+        int apple = Cell.pack(SIZE / 2 + dx, SIZE / 2 + dy);
+
+        assertEquals(Direction.RIGHT, ai.planDirection(snake, apple, SIZE, SIZE));
+
+        // Un parcours en largeur développe toutes les cases plus proches que la pomme (~2d²)
+        int distance = dx + dy;
+        long breadthFirst = 2L * distance * (distance - 1);
+        long expanded = ai.getExpandedCount();
+        assertTrue(expanded <= 2 * distance, "noeuds développés: " + expanded);
+        assertTrue(expanded * 10 < breadthFirst, "noeuds développés: " + expanded);
+    }
+
+    @Test
+    void reachesAnAppleOutsideTheSearchWindow() {
+        HardAI ai = new HardAI();
+        ai.setDecisionBudget(AIPlayer.UNLIMITED_BUDGET);
+        Snake snake = new Snake(100, 100, Color.GREEN, Direction.RIGHT);
+        int apple = Cell.pack(700, 900);
+        int distance = 600 + 800;
+
+        int ticks = 0;
+        long farReuses = 0; // Chemins suivis à mi-parcours, pomme encore hors de la fenêtre
+        while (snake.getHeadCell() != apple && ticks < 2 * distance) {
+            ai.applyDirection(snake, ai.planDirection(snake, apple, LARGE_BOARD, LARGE_BOARD));
+            snake.move();
+            ticks++;
+            if (ticks == distance / 2) {
+                farReuses = ai.getReuseCount();
+            }
+        }
+
+        assertEquals(apple, snake.getHeadCell(), "pomme non atteinte en " + ticks + " ticks");
+        assertTrue(ticks <= distance + 2, "ticks: " + ticks);
+        // Les chemins vers le bord de la fenêtre sont planifiés puis suivis
+        assertTrue(farReuses > 0, "réutilisations à mi-parcours: " + farReuses);
+    }
+
+    @Test
+    void longSoloGameDoesNotKillItself() {
+        HardAI ai = new HardAI();
+        ai.setSeed(1);
+        ai.setDecisionBudget(AIPlayer.UNLIMITED_BUDGET);
+        GameModel model = new GameModel(1);
+        model.setFramePublishing(false);
+        int[] collisions = new int[1];
+        model.addObserver(new GameObserver() {
+            @Override
+            public void onScoreUpdate(int player1Score, int player2Score) {
+            }
+
+            @Override
+            public void onGameStateChange(GameState state) {
+            }
+
+            @Override
+            public void onSnakeMove() {
+            }
+
+            @Override
+            public void onAppleEaten(String playerName) {
+            }
+
+            @Override
+            public void onCollision(String playerName) {
+                collisions[0]++;
+            }
+        });
+        model.initArena(List.of(ai), SOLO_BOARD, SOLO_BOARD);
+
+        for (int i = 0; i < SOLO_TICKS; i++) {
+            model.update(SOLO_BOARD, SOLO_BOARD);
+        }
+
+        assertEquals(0, collisions[0]);
+        assertTrue(model.getSnake(0).getLength() > 100, "taille: " + model.getSnake(0).getLength());
+    }
+}
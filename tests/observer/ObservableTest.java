@@ -0,0 +1,69 @@
+package observer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import model.GameModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ObservableTest {
+
+    @Test
+    @Timeout(value = 10, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void heldEventsDoNotBlockTheCallerOnAFullBuffer() throws InterruptedException {
+        GameModel model = new GameModel(1);
+        model.setFramePublishing(false);
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(3);
+        model.addObserver(new GameObserver() {
+            @Override
+            public void onScoreUpdate(int player1Score, int player2Score) {
+            }
+
+            @Override
+            public void onGameStateChange(GameState state) {
+                delivering.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.countDown();
+            }
+
+            @Override
+            public void onSnakeMove() {
+            }
+
+            @Override
+            public void onAppleEaten(String playerName) {
+            }
+
+            @Override
+            public void onCollision(String playerName) {
+            }
+        });
+        model.enableAsyncDispatch(1, EventDispatcher.OverflowPolicy.BLOCK);
+
+        // Le consommateur reste dans l'observateur, le second lot remplit le tampon
+        model.togglePause();
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+        model.togglePause();
+
+        // Sans retenue, cette bascule attendrait le consommateur
+        synchronized (model) {
+            model.holdEvents();
+            model.togglePause();
+        }
+        assertEquals(0, model.getDispatcher().getBlockedPublishes());
+
+        resume.countDown();
+        model.releaseEvents();
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        model.disableAsyncDispatch();
+    }
+}
@@ -1,7 +1,16 @@
 package util;
 
 public class Helper {
-    public static int getUnitSize(int boardWidth, int boardHeight) {
-        return (boardWidth < boardHeight ? boardWidth : boardHeight) / 40;
+    public static final int DEFAULT_BOARD_CELLS = 40;
+    public static final int MIN_BOARD_CELLS = 40;
+    public static final int MAX_BOARD_CELLS = 10_000;
+
+    // Le modèle compte en cases : seule la vue convertit en pixels, selon son zoom
+    public static int checkBoardCells(int cells) {
+        if (cells < MIN_BOARD_CELLS || cells > MAX_BOARD_CELLS) {
+            throw new IllegalArgumentException("Taille de plateau invalide: " + cells
+                    + " cases (entre " + MIN_BOARD_CELLS + " et " + MAX_BOARD_CELLS + ")");
+        }
+        return cells;
     }
 }
@@ -1,18 +1,22 @@
 package view;
 
 import observer.GameObserver;
-import util.Helper;
+import model.Cell;
 import model.Direction;
+import model.FrameSnapshot;
 import model.GameModel;
-import model.Snake;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Vue principale du jeu
+ *
+ * Le plateau logique peut dépasser la fenêtre : seule la partie visible est
+ * dessinée, à travers une fenêtre (zoom + défilement) qui suit le joueur 1.
  */
 public class GameView extends JPanel implements GameObserver {
     private static final int BOARD_WIDTH = 800;
@@ -20,10 +24,59 @@ public class GameView extends JPanel implements GameObserver {
 
     private static final int MESSAGE_DURATION = 2000; // 2 secondes
     private static final int MESSAGE_SPACING = 25; // Espacement entre les messages
+    private static final int MESSAGE_FADE = 500; // Durée du fondu en fin de message
+    private static final int MESSAGE_BOTTOM = 80; // Ligne de base du plus ancien message, depuis le bas
+    private static final int FADE_FRAME_DELAY = 33; // ≈ 30 images/s pendant le fondu
+    private static final int SCORE_BAR_HEIGHT = 40;
+    // Dégradé du corps par paliers : seules les cases changeant de palier sont repeintes
+    private static final int GRADIENT_STEPS = 8;
+    // Zones repeintes par image : les cases voisines sont regroupées, au plus ce nombre de zones
+    private static final int MAX_DIRTY_RECTS = 8;
+    private static final Color GRID_COLOR = new Color(40, 40, 40);
+    private static final Color OUTSIDE_COLOR = new Color(15, 15, 15); // Hors du plateau
+    // Taille d'une case à l'écran quand le plateau ne tient pas dans la fenêtre
+    private static final int DEFAULT_CELL_PIXELS = 20;
+    private static final int MIN_CELL_PIXELS = 4;
+    private static final int MAX_CELL_PIXELS = 64;
+    private static final Color SCORE_BAR_COLOR = new Color(0, 0, 0, 150);
+    private static final Color PAUSE_OVERLAY_COLOR = new Color(0, 0, 0, 200);
+    private static final Color[] MESSAGE_COLORS = new Color[256]; // Jaune, par niveau d'alpha
+
+    static {
+        for (int alpha = 0; alpha < MESSAGE_COLORS.length; alpha++) {
+            MESSAGE_COLORS[alpha] = new Color(255, 255, 0, alpha);
+        }
+    }
 
     private GameModel model;
     private ArrayList<StatusMessage> statusMessages = new ArrayList<>();
     private boolean showPauseMenu = false;
+    private Timer messageTimer;
+
+    // Une seule demande de rendu en attente sur l'EDT, quel que soit le nombre de notifications
+    private final AtomicBoolean renderPending = new AtomicBoolean();
+
+    // Suivi des zones modifiées entre deux images (EDT uniquement)
+    private FrameSnapshot paintedFrame;
+    private boolean paintedPauseMenu;
+    private boolean fullRepaintNeeded = true;
+    private final Rectangle[] dirtyRects = new Rectangle[MAX_DIRTY_RECTS];
+    private int dirtyCount;
+
+    // Fenêtre sur le plateau (EDT uniquement) : taille d'une case et première case visible
+    private int zoomCellSize; // 0 : zoom automatique, plateau entier s'il tient
+    private int cellSize;
+    private int viewCol;
+    private int viewRow;
+    private int viewportWidth;
+    private int viewportHeight;
+
+    // Fond statique mis en cache, reconstruit seulement au redimensionnement
+    private BufferedImage background;
+    private int backgroundUnitSize;
+
+    // Palettes, sprites et polices partagés entre les images
+    private final SpriteCache spriteCache = new SpriteCache(GRADIENT_STEPS);
 
     // Classe interne pour gérer les messages avec leur timestamp
     private static class StatusMessage {
@@ -42,8 +95,8 @@ public class GameView extends JPanel implements GameObserver {
                 return 0f;
             }
             // Fondu progressif dans les 500 dernières millisecondes
-            if (elapsed > MESSAGE_DURATION - 500) {
-                return (MESSAGE_DURATION - elapsed) / 500f;
+            if (elapsed > MESSAGE_DURATION - MESSAGE_FADE) {
+                return (MESSAGE_DURATION - elapsed) / (float) MESSAGE_FADE;
             }
             return 1.0f;
         }
@@ -61,20 +114,271 @@ public class GameView extends JPanel implements GameObserver {
         setBackground(Color.BLACK);
         setFocusable(true);
 
-        // Timer pour nettoyer les messages expirés et rafraîchir l'affichage
-        Timer cleanupTimer = new Timer(50, e -> {
-            removeExpiredMessages();
-            if (!statusMessages.isEmpty()) {
-                repaint();
+        // Timer des messages : ne tourne que tant qu'un message est affiché
+        messageTimer = new Timer(0, e -> updateMessages());
+        messageTimer.setRepeats(false);
+
+        // Un redimensionnement impose de tout redessiner
+        addComponentListener(new java.awt.event.ComponentAdapter() {
+            @Override
+            public void componentResized(java.awt.event.ComponentEvent e) {
+                fullRepaintNeeded = true;
+            }
+        });
+
+        // Molette : zoom de la fenêtre sur le plateau
+        addMouseWheelListener(e -> {
+            if (e.getWheelRotation() < 0) {
+                zoomIn();
+            } else if (e.getWheelRotation() > 0) {
+                zoomOut();
             }
         });
-        cleanupTimer.start();
+    }
+
+    public void zoomIn() {
+        int base = cellSize > 0 ? cellSize : DEFAULT_CELL_PIXELS;
+        setZoom(Math.min(MAX_CELL_PIXELS, base + Math.max(1, base / 4)));
+    }
+
+    public void zoomOut() {
+        int base = cellSize > 0 ? cellSize : DEFAULT_CELL_PIXELS;
+        setZoom(Math.max(MIN_CELL_PIXELS, base - Math.max(1, base / 5)));
+    }
+
+    private void setZoom(int size) {
+        zoomCellSize = size;
+        fullRepaintNeeded = true;
+        FrameSnapshot frame = model.getFrame();
+        if (frame != null) {
+            updateViewport(frame);
+        }
+        repaint();
+    }
+
+    // Recalcule le zoom et l'origine de la fenêtre ; vrai si l'affichage a bougé.
+    // La caméra suit la tête du joueur 1 avec une marge : elle ne défile pas à
+    // chaque tick, ce qui garde le rendu par zones modifiées efficace.
+    private boolean updateViewport(FrameSnapshot frame) {
+        int cols = Math.max(1, frame.getBoardCols());
+        int rows = Math.max(1, frame.getBoardRows());
+        int size = zoomCellSize;
+        if (size == 0) {
+            int fit = Math.min(getWidth() / cols, getHeight() / rows);
+            size = fit >= MIN_CELL_PIXELS ? fit : DEFAULT_CELL_PIXELS;
+        }
+        size = Math.max(1, size);
+        int visibleCols = Math.max(1, getWidth() / size);
+        int visibleRows = Math.max(1, getHeight() / size);
+
+        int col = viewCol;
+        int row = viewRow;
+        if (frame.getSnakeCount() > 0) {
+            int head = frame.getSnake(0).getCell(0);
+            col = follow(Cell.col(head), col, visibleCols);
+            row = follow(Cell.row(head), row, visibleRows);
+        }
+        col = Math.max(0, Math.min(col, cols - visibleCols));
+        row = Math.max(0, Math.min(row, rows - visibleRows));
+
+        boolean changed = size != cellSize || col != viewCol || row != viewRow;
+        cellSize = size;
+        viewCol = col;
+        viewRow = row;
+        viewportWidth = getWidth();
+        viewportHeight = getHeight();
+        return changed;
+    }
+
+    // Recentre sur la position si elle sort de la zone centrale de la fenêtre
+    private static int follow(int position, int origin, int visible) {
+        int margin = visible / 4;
+        if (position < origin + margin || position >= origin + visible - margin) {
+            return position - visible / 2;
+        }
+        return origin;
+    }
+
+    private boolean isVisible(int cell) {
+        int x = (Cell.col(cell) - viewCol) * cellSize;
+        int y = (Cell.row(cell) - viewRow) * cellSize;
+        return x > -cellSize && x < getWidth() && y > -cellSize && y < getHeight();
+    }
+
+    // Repeint uniquement les cases modifiées depuis la dernière image affichée.
+    // Les cases proches sont regroupées en quelques zones, peintes chacune en
+    // un seul passage : repaint() fusionnerait tout en un rectangle englobant,
+    // presque aussi grand que le panneau quand les serpents sont éloignés.
+    public void repaintChanges() {
+        FrameSnapshot frame = model.getFrame();
+        if (frame == null || (frame == paintedFrame && !fullRepaintNeeded)) {
+            return;
+        }
+        FrameSnapshot previous = paintedFrame;
+        paintedFrame = frame;
+        boolean viewportMoved = updateViewport(frame);
+
+        if (viewportMoved || needsFullRepaint(previous, frame)) {
+            fullRepaintNeeded = false;
+            paintedPauseMenu = showPauseMenu;
+            repaint();
+            return;
+        }
+
+        for (int i = 0; i < frame.getSnakeCount(); i++) {
+            FrameSnapshot.SnakeFrame snake = frame.getSnake(i);
+            FrameSnapshot.SnakeFrame before = previous.getSnake(i);
+            // Nouvelle tête, ancienne tête devenue cou, nouvelle queue et case libérée
+            paintCell(snake.getCell(0));
+            paintCell(snake.getCell(1));
+            paintCell(snake.getCell(snake.getLength() - 1));
+            paintCell(before.getCell(before.getLength() - 1));
+
+            // Segments ayant changé de palier de dégradé (le segment i était en i - 1)
+            for (int j = 2; j < snake.getLength() - 1; j++) {
+                if (gradientStep(j, snake.getLength()) != gradientStep(j - 1, before.getLength())) {
+                    paintCell(snake.getCell(j));
+                }
+            }
+        }
+
+        if (frame.hasApple() != previous.hasApple() || frame.getAppleCell() != previous.getAppleCell()) {
+            if (previous.hasApple()) {
+                paintCell(previous.getAppleCell());
+            }
+            if (frame.hasApple()) {
+                paintCell(frame.getAppleCell());
+            }
+        }
+
+        if (scoresChanged(previous, frame)) {
+            markDirty(0, 0, getWidth(), SCORE_BAR_HEIGHT);
+        }
+
+        for (int i = 0; i < dirtyCount; i++) {
+            paintImmediately(dirtyRects[i]);
+        }
+        dirtyCount = 0;
+    }
+
+    private boolean needsFullRepaint(FrameSnapshot previous, FrameSnapshot frame) {
+        if (fullRepaintNeeded || previous == null || showPauseMenu != paintedPauseMenu
+                || !frame.isRunning() || frame.isPaused()
+                || frame.getTick() != previous.getTick() + 1
+                || frame.getSnakeCount() != previous.getSnakeCount()) {
+            return true;
+        }
+        // Réapparition ou croissance inattendue : le diff local ne suffit pas
+        for (int i = 0; i < frame.getSnakeCount(); i++) {
+            FrameSnapshot.SnakeFrame snake = frame.getSnake(i);
+            FrameSnapshot.SnakeFrame before = previous.getSnake(i);
+            int growth = snake.getLength() - before.getLength();
+            if (growth < 0 || growth > 1 || snake.getLength() < 2
+                    || snake.getCell(1) != before.getCell(0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean scoresChanged(FrameSnapshot previous, FrameSnapshot frame) {
+        for (int i = 0; i < frame.getSnakeCount(); i++) {
+            if (frame.getScore(i) != previous.getScore(i)
+                    || frame.getSnake(i).getLength() != previous.getSnake(i).getLength()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int gradientStep(int index, int length) {
+        return index * GRADIENT_STEPS / length;
+    }
+
+    // Les segments débordent d'un pixel (décalage +1) : marge incluse
+    private void paintCell(int cell) {
+        if (isVisible(cell)) {
+            markDirty((Cell.col(cell) - viewCol) * cellSize, (Cell.row(cell) - viewRow) * cellSize,
+                    cellSize + 2, cellSize + 2);
+        }
+    }
+
+    // Ajoute la zone à une zone proche si l'union reste compacte, sinon en ouvre une nouvelle
+    private void markDirty(int x, int y, int width, int height) {
+        int best = -1;
+        long bestWaste = Long.MAX_VALUE;
+        for (int i = 0; i < dirtyCount; i++) {
+            Rectangle rect = dirtyRects[i];
+            long unionWidth = Math.max(rect.x + rect.width, x + width) - Math.min(rect.x, x);
+            long unionHeight = Math.max(rect.y + rect.height, y + height) - Math.min(rect.y, y);
+            long waste = unionWidth * unionHeight - (long) rect.width * rect.height - (long) width * height;
+            if (waste < bestWaste) {
+                best = i;
+                bestWaste = waste;
+            }
+        }
+        // Fusion si l'union ne repeint pas plus que les deux zones réunies
+        if (best >= 0 && (bestWaste <= (long) width * height + (long) dirtyRects[best].width * dirtyRects[best].height
+                || dirtyCount == MAX_DIRTY_RECTS)) {
+            Rectangle rect = dirtyRects[best];
+            rect.add(x, y);
+            rect.add(x + width, y + height);
+            return;
+        }
+        if (dirtyRects[dirtyCount] == null) {
+            dirtyRects[dirtyCount] = new Rectangle();
+        }
+        dirtyRects[dirtyCount++].setBounds(x, y, width, height);
+    }
+
+    // Demande un rendu des changements depuis n'importe quel thread (coalescé)
+    public void requestRender() {
+        if (renderPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                renderPending.set(false);
+                repaintChanges();
+            });
+        }
     }
 
     // Ajoute un nouveau message à la liste
     private void addStatusMessage(String message) {
         statusMessages.add(new StatusMessage(message));
-        repaint();
+        repaint(messageArea(statusMessages.size()));
+        scheduleMessageTimer();
+    }
+
+    // Retire les messages expirés, redessine et reprogramme le prochain réveil
+    private void updateMessages() {
+        int shown = statusMessages.size();
+        removeExpiredMessages();
+        repaint(messageArea(shown));
+        scheduleMessageTimer();
+    }
+
+    // Un message est statique jusqu'à son fondu : on ne se réveille que pour
+    // animer le fondu ou retirer le message, jamais à intervalle fixe
+    private void scheduleMessageTimer() {
+        if (statusMessages.isEmpty()) {
+            messageTimer.stop();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long delay = Long.MAX_VALUE;
+        for (StatusMessage msg : statusMessages) {
+            long fadeStart = msg.creationTime + MESSAGE_DURATION - MESSAGE_FADE;
+            delay = Math.min(delay, now >= fadeStart ? FADE_FRAME_DELAY : fadeStart - now);
+        }
+        messageTimer.setInitialDelay((int) Math.max(1, delay));
+        messageTimer.restart();
+    }
+
+    // Bande occupée par les messages empilés en bas du panneau
+    private Rectangle messageArea(int count) {
+        FontMetrics fm = getFontMetrics(SpriteCache.MESSAGE_FONT);
+        int baseline = getHeight() - MESSAGE_BOTTOM;
+        int top = baseline - (Math.max(count, 1) - 1) * MESSAGE_SPACING - fm.getAscent();
+        return new Rectangle(0, top, getWidth(), baseline + fm.getDescent() - top + 1);
     }
 
     // Supprime les messages expirés
@@ -97,31 +401,37 @@ public class GameView extends JPanel implements GameObserver {
         int boardWidth = this.getWidth();
         int boardHeight = this.getHeight();
 
-        int unitSize = Helper.getUnitSize(boardWidth, boardHeight);
+        // Le rendu ne lit que la dernière image publiée par le modèle, sans verrou
+        FrameSnapshot frame = model != null ? model.getFrame() : null;
+        if (frame == null) {
+            return;
+        }
+        if (cellSize == 0 || boardWidth != viewportWidth || boardHeight != viewportHeight) {
+            updateViewport(frame);
+        }
+        int unitSize = cellSize;
 
-        if (model == null || !model.isRunning()) {
-            drawGameOver(g, boardWidth, boardHeight);
+        if (!frame.isRunning()) {
+            drawGameOver(g, frame, boardWidth, boardHeight);
             return;
         }
 
         // Dessiner la grille (optionnel)
-        drawGrid(g, unitSize, boardWidth, boardHeight);
+        drawBackground(g, unitSize, boardWidth, boardHeight);
+        drawOutside(g, frame, unitSize, boardWidth, boardHeight);
 
         // Dessiner la pomme
-        if (model.getApple() != null) {
-            drawApple(g, model.getApple(), unitSize);
+        if (frame.hasApple()) {
+            drawApple(g, frame.getAppleCell(), unitSize);
         }
 
         // Dessiner les serpents
-        if (model.getSnake1() != null) {
-            drawSnake(g, model.getSnake1(), 1, unitSize);
-        }
-        if (model.getSnake2() != null) {
-            drawSnake(g, model.getSnake2(), 2, unitSize);
+        for (int i = 0; i < frame.getSnakeCount(); i++) {
+            drawSnake(g, frame.getSnake(i), unitSize);
         }
 
         // Afficher les scores et infos
-        drawScores(g, boardWidth);
+        drawScores(g, frame, boardWidth);
 
         // Afficher le menu pause si nécessaire
         if (showPauseMenu) {
@@ -134,188 +444,132 @@ public class GameView extends JPanel implements GameObserver {
         }
     }
 
+    // Le fond (noir + grille) est statique : rendu une fois, puis copié à chaque image
+    private void drawBackground(Graphics g, int unitSize, int boardWidth, int boardHeight) {
+        if (background == null || background.getWidth() != boardWidth || background.getHeight() != boardHeight
+                || backgroundUnitSize != unitSize) {
+            GraphicsConfiguration config = getGraphicsConfiguration();
+            background = config != null
+                    ? config.createCompatibleImage(boardWidth, boardHeight, Transparency.OPAQUE)
+                    : new BufferedImage(boardWidth, boardHeight, BufferedImage.TYPE_INT_RGB);
+            backgroundUnitSize = unitSize;
+
+            Graphics2D bg = background.createGraphics();
+            bg.setColor(Color.BLACK);
+            bg.fillRect(0, 0, boardWidth, boardHeight);
+            drawGrid(bg, unitSize, boardWidth, boardHeight);
+            bg.dispose();
+        }
+        g.drawImage(background, 0, 0, null);
+    }
+
+    // Zone de la fenêtre au-delà du bord du plateau (plateau plus petit que la vue)
+    private void drawOutside(Graphics g, FrameSnapshot frame, int unitSize, int boardWidth, int boardHeight) {
+        int right = (frame.getBoardCols() - viewCol) * unitSize;
+        int bottom = (frame.getBoardRows() - viewRow) * unitSize;
+        g.setColor(OUTSIDE_COLOR);
+        if (right < boardWidth) {
+            g.fillRect(right, 0, boardWidth - right, boardHeight);
+        }
+        if (bottom < boardHeight) {
+            g.fillRect(0, bottom, Math.min(right, boardWidth), boardHeight - bottom);
+        }
+    }
+
     private void drawGrid(Graphics g, int unitSize, int boardWidth, int bordHeight) {
-        g.setColor(new Color(40, 40, 40));
+        g.setColor(GRID_COLOR);
         for (int i = 0; i < (bordHeight > boardWidth ? bordHeight : boardWidth) / unitSize; i++) {
             g.drawLine(i * unitSize, 0, i * unitSize, bordHeight);
             g.drawLine(0, i * unitSize, boardWidth, i * unitSize);
         }
     }
 
-    private void drawApple(Graphics g, Point apple, int unitSize) {
+    private void drawApple(Graphics g, int appleCell, int unitSize) {
+        if (!isVisible(appleCell)) {
+            return;
+        }
+        int appleX = (Cell.col(appleCell) - viewCol) * unitSize;
+        int appleY = (Cell.row(appleCell) - viewRow) * unitSize;
+
         // Dessiner une pomme plus jolie
         g.setColor(Color.RED);
-        g.fillOval(apple.x + 2, apple.y + 2, unitSize - 4, unitSize - 4);
+        g.fillOval(appleX + 2, appleY + 2, unitSize - 4, unitSize - 4);
 
         // Petite feuille
         g.setColor(Color.GREEN);
-        g.fillRect(apple.x + unitSize / 2 - 1, apple.y, 2, 4);
+        g.fillRect(appleX + unitSize / 2 - 1, appleY, 2, 4);
     }
 
-    private void drawSnake(Graphics g, Snake snake, int playerNumber, int unitSize) {
+    // Boucle de copies : couleurs et sprites viennent du cache, aucune allocation.
+    // Les segments hors de la fenêtre sont sautés sans rien dessiner.
+    private void drawSnake(Graphics g, FrameSnapshot.SnakeFrame snake, int unitSize) {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        java.util.List<Point> body = snake.getBody();
-        Color baseColor = snake.getColor();
+        int length = snake.getLength();
+        SpriteCache.SnakeSprites sprites = spriteCache.get(snake.getColor(), unitSize, getGraphicsConfiguration());
 
-        for (int i = 0; i < body.size(); i++) {
-            Point segment = body.get(i);
+        for (int i = 0; i < length; i++) {
+            int cell = snake.getCell(i);
+            if (!isVisible(cell)) {
+                continue;
+            }
+            int segmentX = (Cell.col(cell) - viewCol) * unitSize;
+            int segmentY = (Cell.row(cell) - viewRow) * unitSize;
 
             if (i == 0) {
-                // Tête du serpent - arrondie selon la direction
-                g2d.setColor(baseColor.brighter());
-                drawRoundedRectangle(g2d, segment.x + 1, segment.y + 1, unitSize, unitSize,
-                        10, snake.getDirection());
-
-                // Dessiner les yeux
-                g2d.setColor(Color.WHITE);
-                int eyeSize = 4;
-                int eyeOffset = 4;
-
-                switch (snake.getDirection()) {
-                    case UP:
-                        g2d.fillOval(segment.x + eyeOffset, segment.y + eyeOffset, eyeSize, eyeSize);
-                        g2d.fillOval(segment.x + unitSize - eyeOffset - eyeSize, segment.y + eyeOffset, eyeSize,
-                                eyeSize);
-                        break;
-                    case DOWN:
-                        g2d.fillOval(segment.x + eyeOffset, segment.y + unitSize - eyeOffset - eyeSize, eyeSize,
-                                eyeSize);
-                        g2d.fillOval(segment.x + unitSize - eyeOffset - eyeSize,
-                                segment.y + unitSize - eyeOffset - eyeSize, eyeSize, eyeSize);
-                        break;
-                    case LEFT:
-                        g2d.fillOval(segment.x + eyeOffset, segment.y + eyeOffset, eyeSize, eyeSize);
-                        g2d.fillOval(segment.x + eyeOffset, segment.y + unitSize - eyeOffset - eyeSize, eyeSize,
-                                eyeSize);
-                        break;
-                    case RIGHT:
-                        g2d.fillOval(segment.x + unitSize - eyeOffset - eyeSize, segment.y + eyeOffset, eyeSize,
-                                eyeSize);
-                        g2d.fillOval(segment.x + unitSize - eyeOffset - eyeSize,
-                                segment.y + unitSize - eyeOffset - eyeSize, eyeSize, eyeSize);
-                        break;
-                }
-            } else if (i == body.size() - 1) {
+                // Tête du serpent - arrondie selon la direction, avec les yeux
+                g2d.drawImage(sprites.getHead(snake.getDirection()), segmentX, segmentY, null);
+            } else if (i == length - 1) {
                 // Queue du serpent - arrondie du côté opposé à la direction
-                float ratio = (float) i / body.size();
-                Color segmentColor = new Color(
-                        (int) (baseColor.getRed() * (1 - ratio * 0.3)),
-                        (int) (baseColor.getGreen() * (1 - ratio * 0.3)),
-                        (int) (baseColor.getBlue() * (1 - ratio * 0.3)));
-                g2d.setColor(segmentColor);
-
-                // Déterminer la direction de la queue (opposée au segment précédent)
-                Point prevSegment = body.get(i - 1);
-                Direction tailDirection = getTailDirection(segment, prevSegment);
-                drawRoundedRectangle(g2d, segment.x + 1, segment.y + 1, unitSize, unitSize,
-                        10, tailDirection);
+                Direction tailDirection = getTailDirection(cell, snake.getCell(i - 1));
+                g2d.drawImage(sprites.getTail(gradientStep(i, length), tailDirection), segmentX, segmentY, null);
             } else {
                 // Corps du serpent - gradient
-                float ratio = (float) i / body.size();
-                Color segmentColor = new Color(
-                        (int) (baseColor.getRed() * (1 - ratio * 0.3)),
-                        (int) (baseColor.getGreen() * (1 - ratio * 0.3)),
-                        (int) (baseColor.getBlue() * (1 - ratio * 0.3)));
-                g2d.setColor(segmentColor);
-                g2d.fillRect(segment.x + 1, segment.y + 1, unitSize, unitSize);
+                g2d.setColor(sprites.getColor(gradientStep(i, length)));
+                g2d.fillRect(segmentX + 1, segmentY + 1, unitSize, unitSize);
             }
         }
     }
 
-    // Dessine un rectangle arrondi pour la tête et la queue
-    private void drawRoundedRectangle(Graphics2D g2d, int x, int y, int width, int height,
-            int arcSize, Direction direction) {
-        Path2D path = new Path2D.Float();
-
-        switch (direction) {
-            case UP:
-                // Arrondi en haut
-                path.moveTo(x, y + height);
-                path.lineTo(x, y + arcSize);
-                path.quadTo(x, y, x + arcSize, y);
-                path.lineTo(x + width - arcSize, y);
-                path.quadTo(x + width, y, x + width, y + arcSize);
-                path.lineTo(x + width, y + height);
-                break;
-            case DOWN:
-                // Arrondi en bas
-                path.moveTo(x, y);
-                path.lineTo(x, y + height - arcSize);
-                path.quadTo(x, y + height, x + arcSize, y + height);
-                path.lineTo(x + width - arcSize, y + height);
-                path.quadTo(x + width, y + height, x + width, y + height - arcSize);
-                path.lineTo(x + width, y);
-                break;
-            case LEFT:
-                // Arrondi à gauche
-                path.moveTo(x + width, y);
-                path.lineTo(x + arcSize, y);
-                path.quadTo(x, y, x, y + arcSize);
-                path.lineTo(x, y + height - arcSize);
-                path.quadTo(x, y + height, x + arcSize, y + height);
-                path.lineTo(x + width, y + height);
-                break;
-            case RIGHT:
-                // Arrondi à droite
-                path.moveTo(x, y);
-                path.lineTo(x + width - arcSize, y);
-                path.quadTo(x + width, y, x + width, y + arcSize);
-                path.lineTo(x + width, y + height - arcSize);
-                path.quadTo(x + width, y + height, x + width - arcSize, y + height);
-                path.lineTo(x, y + height);
-                break;
-        }
-        path.closePath();
-        g2d.fill(path);
-    }
-
     // Détermine la direction de la queue basée sur la position relative
-    private Direction getTailDirection(Point tail, Point beforeTail) {
-        if (tail.x < beforeTail.x)
+    private Direction getTailDirection(int tail, int beforeTail) {
+        if (Cell.col(tail) < Cell.col(beforeTail))
             return Direction.LEFT;
-        if (tail.x > beforeTail.x)
+        if (Cell.col(tail) > Cell.col(beforeTail))
             return Direction.RIGHT;
-        if (tail.y < beforeTail.y)
+        if (Cell.row(tail) < Cell.row(beforeTail))
             return Direction.UP;
         return Direction.DOWN;
     }
 
-    private void drawScores(Graphics g, int bordWidth) {
+    private void drawScores(Graphics g, FrameSnapshot frame, int bordWidth) {
         // Zone de score avec fond semi-transparent
-        g.setColor(new Color(0, 0, 0, 150));
-        g.fillRect(0, 0, bordWidth, 40);
+        g.setColor(SCORE_BAR_COLOR);
+        g.fillRect(0, 0, bordWidth, SCORE_BAR_HEIGHT);
 
         // Scores
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 16));
-
-        String player1Name = model.getPlayer1() != null ? model.getPlayer1().getName() : "Joueur 1";
-        String player2Name = model.getPlayer2() != null ? model.getPlayer2().getName() : "Joueur 2";
+        g.setFont(SpriteCache.SCORE_FONT);
 
-        g.drawString(player1Name + ": " + model.getPlayer1Score(), 10, 25);
-        g.drawString(player2Name + ": " + model.getPlayer2Score(), bordWidth - 150, 25);
+        g.drawString(frame.getPlayerName(0) + ": " + frame.getScore(0), 10, 25);
+        g.drawString(frame.getPlayerName(1) + ": " + frame.getScore(1), bordWidth - 150, 25);
 
         // Longueur des serpents
-        g.setFont(new Font("Arial", Font.PLAIN, 12));
+        g.setFont(SpriteCache.LENGTH_FONT);
         g.setColor(Color.LIGHT_GRAY);
-        if (model.getSnake1() != null) {
-            g.drawString("Taille: " + model.getSnake1().getLength(), 10, 38);
-        }
-        if (model.getSnake2() != null) {
-            g.drawString("Taille: " + model.getSnake2().getLength(), bordWidth - 150, 38);
-        }
+        g.drawString("Taille: " + frame.getSnake(0).getLength(), 10, 38);
+        g.drawString("Taille: " + frame.getSnake(1).getLength(), bordWidth - 150, 38);
     }
 
     private void drawPauseMenu(Graphics g, int bordWidth, int bordHeight) {
         // Fond semi-transparent
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(PAUSE_OVERLAY_COLOR);
         g.fillRect(0, 0, bordWidth, bordHeight);
 
         // Texte PAUSE
         g.setColor(Color.YELLOW);
-        g.setFont(new Font("Arial", Font.BOLD, 48));
+        g.setFont(SpriteCache.TITLE_FONT);
         String pauseText = "PAUSE";
         FontMetrics fm = getFontMetrics(g.getFont());
         int x = (bordWidth - fm.stringWidth(pauseText)) / 2;
@@ -323,7 +577,7 @@ public class GameView extends JPanel implements GameObserver {
 
         // Instructions
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 16));
+        g.setFont(SpriteCache.SCORE_FONT);
 
         String[] instructions = {
                 "P - Reprendre",
@@ -338,14 +592,14 @@ public class GameView extends JPanel implements GameObserver {
         }
     }
 
-    private void drawGameOver(Graphics g, int bordWidth, int bordHeight) {
+    private void drawGameOver(Graphics g, FrameSnapshot frame, int bordWidth, int bordHeight) {
         // Fond
         g.setColor(Color.BLACK);
         g.fillRect(0, 0, bordWidth, bordHeight);
 
         // Titre Game Over
         g.setColor(Color.RED);
-        g.setFont(new Font("Arial", Font.BOLD, 48));
+        g.setFont(SpriteCache.TITLE_FONT);
         String gameOver = "GAME OVER";
         FontMetrics fm = getFontMetrics(g.getFont());
         int x = (bordWidth - fm.stringWidth(gameOver)) / 2;
@@ -353,13 +607,13 @@ public class GameView extends JPanel implements GameObserver {
 
         // Gagnant
         g.setColor(Color.YELLOW);
-        g.setFont(new Font("Arial", Font.BOLD, 32));
+        g.setFont(SpriteCache.WINNER_FONT);
 
         String winner;
-        if (model.getPlayer1Score() > model.getPlayer2Score()) {
-            winner = model.getPlayer1().getName() + " gagne!";
-        } else if (model.getPlayer2Score() > model.getPlayer1Score()) {
-            winner = model.getPlayer2().getName() + " gagne!";
+        if (frame.getScore(0) > frame.getScore(1)) {
+            winner = frame.getPlayerName(0) + " gagne!";
+        } else if (frame.getScore(1) > frame.getScore(0)) {
+            winner = frame.getPlayerName(1) + " gagne!";
         } else {
             winner = "Égalité!";
         }
@@ -370,15 +624,15 @@ public class GameView extends JPanel implements GameObserver {
 
         // Scores finaux
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 20));
+        g.setFont(SpriteCache.FINAL_SCORE_FONT);
 
-        String finalScore = "Score final: " + model.getPlayer1Score() + " - " + model.getPlayer2Score();
+        String finalScore = "Score final: " + frame.getScore(0) + " - " + frame.getScore(1);
         fm = getFontMetrics(g.getFont());
         x = (bordWidth - fm.stringWidth(finalScore)) / 2;
         g.drawString(finalScore, x, bordHeight / 2 + 50);
 
         // Instruction
-        g.setFont(new Font("Arial", Font.PLAIN, 16));
+        g.setFont(SpriteCache.INSTRUCTION_FONT);
         String instruction = "Appuyez sur ESPACE pour retourner au menu";
         fm = getFontMetrics(g.getFont());
         x = (bordWidth - fm.stringWidth(instruction)) / 2;
@@ -387,11 +641,11 @@ public class GameView extends JPanel implements GameObserver {
 
     private void drawStatusMessages(Graphics g, int bordWidth, int bordHeight) {
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
+        g2d.setFont(SpriteCache.MESSAGE_FONT);
         FontMetrics fm = g2d.getFontMetrics();
 
         // Dessiner les messages du plus ancien au plus récent (de bas en haut)
-        int yPosition = bordHeight - 80;
+        int yPosition = bordHeight - MESSAGE_BOTTOM;
 
         for (int i = statusMessages.size() - 1; i >= 0; i--) {
             StatusMessage msg = statusMessages.get(i);
@@ -399,7 +653,7 @@ public class GameView extends JPanel implements GameObserver {
 
             if (alpha > 0) {
                 // Appliquer la transparence
-                g2d.setColor(new Color(255, 255, 0, (int) (255 * alpha))); // Jaune avec alpha
+                g2d.setColor(MESSAGE_COLORS[(int) (255 * alpha)]); // Jaune avec alpha
 
                 int x = (bordWidth - fm.stringWidth(msg.text)) / 2;
                 g2d.drawString(msg.text, x, yPosition);
@@ -409,7 +663,7 @@ public class GameView extends JPanel implements GameObserver {
         }
     }
 
-    // Implémentation de GameObserver
+    // Implémentation de GameObserver (appelée depuis la boucle de jeu)
     @Override
     public void onScoreUpdate(int player1Score, int player2Score) {
         // repaint();
@@ -417,22 +671,23 @@ public class GameView extends JPanel implements GameObserver {
 
     @Override
     public void onGameStateChange(GameState state) {
-        showPauseMenu = (state == GameState.PAUSED);
-        // repaint();
+        SwingUtilities.invokeLater(() -> showPauseMenu = (state == GameState.PAUSED));
+        requestRender();
     }
 
     @Override
     public void onSnakeMove() {
-        // repaint();
+        // Notifié une fois l'image du tick publiée
+        requestRender();
     }
 
     @Override
     public void onAppleEaten(String playerName) {
-        addStatusMessage(playerName + " a mangé la pomme!");
+        SwingUtilities.invokeLater(() -> addStatusMessage(playerName + " a mangé la pomme!"));
     }
 
     @Override
     public void onCollision(String playerName) {
-        addStatusMessage(playerName + " a eu une collision!");
+        SwingUtilities.invokeLater(() -> addStatusMessage(playerName + " a eu une collision!"));
     }
 }
\ No newline at end of file
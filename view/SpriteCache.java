@@ -0,0 +1,196 @@
+package view;
+
+import model.Direction;
+import java.awt.*;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache de rendu du serpent : palettes de dégradé, sprites de tête et de queue
+ * prérendus par direction, et polices partagées
+ */
+final class SpriteCache {
+    // Polices partagées par tous les dessins de la vue
+    static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 48);
+    static final Font WINNER_FONT = new Font("Arial", Font.BOLD, 32);
+    static final Font FINAL_SCORE_FONT = new Font("Arial", Font.BOLD, 20);
+    static final Font SCORE_FONT = new Font("Arial", Font.BOLD, 16);
+    static final Font INSTRUCTION_FONT = new Font("Arial", Font.PLAIN, 16);
+    static final Font MESSAGE_FONT = new Font("Arial", Font.BOLD, 14);
+    static final Font LENGTH_FONT = new Font("Arial", Font.PLAIN, 12);
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int ARC_SIZE = 10;
+    private static final int EYE_SIZE = 4;
+    private static final int EYE_OFFSET = 4;
+
+    private final int gradientSteps;
+    private final Map<Color, SnakeSprites> sprites = new HashMap<>();
+    private int unitSize;
+
+    SpriteCache(int gradientSteps) {
+        this.gradientSteps = gradientSteps;
+    }
+
+    // Sprites d'une couleur de serpent ; tout est reconstruit si la taille de case change
+    SnakeSprites get(Color baseColor, int unitSize, GraphicsConfiguration config) {
+        if (unitSize != this.unitSize) {
+            sprites.clear();
+            this.unitSize = unitSize;
+        }
+        SnakeSprites result = sprites.get(baseColor);
+        if (result == null) {
+            result = new SnakeSprites(baseColor, unitSize, config);
+            sprites.put(baseColor, result);
+        }
+        return result;
+    }
+
+    /**
+     * Rendu précalculé pour une couleur et une taille de case
+     */
+    final class SnakeSprites {
+        private final Color[] palette;
+        private final BufferedImage[] heads = new BufferedImage[DIRECTIONS.length];
+        private final BufferedImage[][] tails;
+        private final int unitSize;
+        private final GraphicsConfiguration config;
+
+        private SnakeSprites(Color baseColor, int unitSize, GraphicsConfiguration config) {
+            this.unitSize = unitSize;
+            this.config = config;
+            this.palette = new Color[gradientSteps + 1];
+            for (int step = 0; step <= gradientSteps; step++) {
+                float ratio = (float) step / gradientSteps;
+                palette[step] = new Color(
+                        (int) (baseColor.getRed() * (1 - ratio * 0.3)),
+                        (int) (baseColor.getGreen() * (1 - ratio * 0.3)),
+                        (int) (baseColor.getBlue() * (1 - ratio * 0.3)));
+            }
+            this.tails = new BufferedImage[gradientSteps + 1][];
+
+            Color headColor = baseColor.brighter();
+            for (Direction direction : DIRECTIONS) {
+                BufferedImage head = createSprite();
+                Graphics2D g2d = head.createGraphics();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2d.setColor(headColor);
+                fillRounded(g2d, direction);
+                drawEyes(g2d, direction);
+                g2d.dispose();
+                heads[direction.ordinal()] = head;
+            }
+        }
+
+        Color getColor(int step) {
+            return palette[step];
+        }
+
+        // Les sprites couvrent la case et son débordement d'un pixel
+        BufferedImage getHead(Direction direction) {
+            return heads[direction.ordinal()];
+        }
+
+        // Les queues sont créées à la demande : seuls quelques paliers servent en pratique
+        BufferedImage getTail(int step, Direction direction) {
+            if (tails[step] == null) {
+                tails[step] = new BufferedImage[DIRECTIONS.length];
+            }
+            BufferedImage tail = tails[step][direction.ordinal()];
+            if (tail == null) {
+                tail = createSprite();
+                Graphics2D g2d = tail.createGraphics();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2d.setColor(palette[step]);
+                fillRounded(g2d, direction);
+                g2d.dispose();
+                tails[step][direction.ordinal()] = tail;
+            }
+            return tail;
+        }
+
+        private BufferedImage createSprite() {
+            int size = unitSize + 2;
+            return config != null
+                    ? config.createCompatibleImage(size, size, Transparency.TRANSLUCENT)
+                    : new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        // Rectangle arrondi du côté de la direction, décalé d'un pixel comme le corps
+        private void fillRounded(Graphics2D g2d, Direction direction) {
+            int x = 1;
+            int y = 1;
+            int width = unitSize;
+            int height = unitSize;
+            Path2D path = new Path2D.Float();
+
+            switch (direction) {
+                case UP:
+                    // Arrondi en haut
+                    path.moveTo(x, y + height);
+                    path.lineTo(x, y + ARC_SIZE);
+                    path.quadTo(x, y, x + ARC_SIZE, y);
+                    path.lineTo(x + width - ARC_SIZE, y);
+                    path.quadTo(x + width, y, x + width, y + ARC_SIZE);
+                    path.lineTo(x + width, y + height);
+                    break;
+                case DOWN:
+                    // Arrondi en bas
+                    path.moveTo(x, y);
+                    path.lineTo(x, y + height - ARC_SIZE);
+                    path.quadTo(x, y + height, x + ARC_SIZE, y + height);
+                    path.lineTo(x + width - ARC_SIZE, y + height);
+                    path.quadTo(x + width, y + height, x + width, y + height - ARC_SIZE);
+                    path.lineTo(x + width, y);
+                    break;
+                case LEFT:
+                    // Arrondi à gauche
+                    path.moveTo(x + width, y);
+                    path.lineTo(x + ARC_SIZE, y);
+                    path.quadTo(x, y, x, y + ARC_SIZE);
+                    path.lineTo(x, y + height - ARC_SIZE);
+                    path.quadTo(x, y + height, x + ARC_SIZE, y + height);
+                    path.lineTo(x + width, y + height);
+                    break;
+                case RIGHT:
+                    // Arrondi à droite
+                    path.moveTo(x, y);
+                    path.lineTo(x + width - ARC_SIZE, y);
+                    path.quadTo(x + width, y, x + width, y + ARC_SIZE);
+                    path.lineTo(x + width, y + height - ARC_SIZE);
+                    path.quadTo(x + width, y + height, x + width - ARC_SIZE, y + height);
+                    path.lineTo(x, y + height);
+                    break;
+            }
+            path.closePath();
+            g2d.fill(path);
+        }
+
+        private void drawEyes(Graphics2D g2d, Direction direction) {
+            g2d.setColor(Color.WHITE);
+            int near = EYE_OFFSET;
+            int far = unitSize - EYE_OFFSET - EYE_SIZE;
+
+            switch (direction) {
+                case UP:
+                    g2d.fillOval(near, near, EYE_SIZE, EYE_SIZE);
+                    g2d.fillOval(far, near, EYE_SIZE, EYE_SIZE);
+                    break;
+                case DOWN:
+                    g2d.fillOval(near, far, EYE_SIZE, EYE_SIZE);
+                    g2d.fillOval(far, far, EYE_SIZE, EYE_SIZE);
+                    break;
+                case LEFT:
+                    g2d.fillOval(near, near, EYE_SIZE, EYE_SIZE);
+                    g2d.fillOval(near, far, EYE_SIZE, EYE_SIZE);
+                    break;
+                case RIGHT:
+                    g2d.fillOval(far, near, EYE_SIZE, EYE_SIZE);
+                    g2d.fillOval(far, far, EYE_SIZE, EYE_SIZE);
+                    break;
+            }
+        }
+    }
+}